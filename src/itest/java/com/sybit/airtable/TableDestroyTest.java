@@ -12,6 +12,9 @@ import com.sybit.airtable.mock.WireMockBaseTest;
 import org.apache.http.client.HttpResponseException;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.ExecutionException;
 import org.junit.Ignore;
 import org.junit.Test;
 
@@ -55,4 +58,25 @@ public class TableDestroyTest extends WireMockBaseTest {
         boolean destroyed = actorTable.destroy("not succesfull");
     }
 
+    @Test
+    public void testDestroyMovieAsync() throws Exception {
+
+        Table<Actor> actorTable = base.table("Actors", Actor.class);
+
+        boolean destroyed = actorTable.destroyAsync("recAt6z10EYD6NtEH").get();
+        assertTrue(destroyed);
+    }
+
+    @Test
+    public void testDestroyMovieExceptionAsync() throws InterruptedException {
+
+        Table<Actor> actorTable = base.table("Actors", Actor.class);
+        try {
+            actorTable.destroyAsync("not succesfull").get();
+            fail("AirtableException expected");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof AirtableException);
+        }
+    }
+
 }
@@ -70,6 +70,52 @@ public class TableParameterTest extends WireMockBaseTest {
 
     }
 
+    @Test
+    public void offsetStreamTest() throws AirtableException {
+
+        Table<Movie> movieTable = base.table("Movies", Movie.class);
+
+        Query query = new Query() {
+            @Override
+            public String[] getFields() {
+                return null;
+            }
+
+            @Override
+            public Integer getPageSize() {
+                return 3;
+            }
+
+            @Override
+            public Integer getMaxRecords() {
+                return null;
+            }
+
+            @Override
+            public String getView() {
+                return null;
+            }
+
+            @Override
+            public List<Sort> getSort() {
+                return null;
+            }
+
+            @Override
+            public String filterByFormula() {
+                return null;
+            }
+
+            @Override
+            public String getOffset() {
+                return null;
+            }
+        };
+
+        assertEquals(9, movieTable.stream(query).count());
+
+    }
+
     @Test
     public void fieldsParamTest() throws AirtableException, HttpResponseException {
 
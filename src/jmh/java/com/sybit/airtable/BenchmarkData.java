@@ -0,0 +1,96 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import com.sybit.airtable.exception.AirtableException;
+
+/**
+ * Synthetic responses of Airtable for benchmarks.
+ *
+ * The records match the fields of the <code>movies</code> test classes, so
+ * they can be mapped without errors.
+ *
+ * @since 0.3
+ */
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Register the converters of <code>Airtable</code>.
+     *
+     * @throws AirtableException never with given API key.
+     */
+    static void configure() throws AirtableException {
+        new Airtable().configure(new Configuration("123", "http://localhost", null)).close();
+    }
+
+    /**
+     * Create page of movie records.
+     *
+     * @param records number of records.
+     * @param attachments number of photos per movie.
+     * @return JSON of page.
+     */
+    static String moviePage(int records, int attachments) {
+        final StringBuilder json = new StringBuilder("{\"records\":[");
+        for (int i = 0; i < records; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\":\"rec").append(String.format("%014d", i)).append("\",")
+                    .append("\"fields\":{")
+                    .append("\"Name\":\"Movie ").append(i).append("\",")
+                    .append("\"Description\":\"A movie about the number ").append(i).append(".\",")
+                    .append("\"Photos\":").append(attachments(attachments)).append(',')
+                    .append("\"Director\":[\"recDirector0000\"],")
+                    .append("\"Actors\":[\"recActor00000001\",\"recActor00000002\",\"recActor00000003\"],")
+                    .append("\"Genre\":[\"Drama\",\"Comedy\"]},")
+                    .append("\"createdTime\":\"2017-03-14T15:42:12.000Z\"}");
+        }
+        return json.append("],\"offset\":\"itrNextPage/recNextPage\"}").toString();
+    }
+
+    /**
+     * Create single actor record.
+     *
+     * @param attachments number of photos.
+     * @return JSON of record.
+     */
+    static String actorRecord(int attachments) {
+        return "{\"id\":\"recActor00000001\",\"fields\":{"
+                + "\"Name\":\"Marlon Brando\","
+                + "\"Photo\":" + attachments(attachments) + ","
+                + "\"Biography\":\"Marlon Brando Jr. was an American actor and film director.\","
+                + "\"Filmography\":[\"recMovie00000001\",\"recMovie00000002\"]}}";
+    }
+
+    /**
+     * Create list of attachments with thumbnails.
+     *
+     * @param count number of attachments.
+     * @return JSON of list.
+     */
+    static String attachments(int count) {
+        final StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\":\"att").append(String.format("%014d", i)).append("\",")
+                    .append("\"url\":\"https://dl.airtable.com/photo").append(i).append(".jpg\",")
+                    .append("\"filename\":\"photo").append(i).append(".jpg\",")
+                    .append("\"size\":").append(100000 + i).append(',')
+                    .append("\"type\":\"image/jpeg\",")
+                    .append("\"thumbnails\":{")
+                    .append("\"small\":{\"url\":\"https://dl.airtable.com/small").append(i).append(".jpg\",\"width\":36,\"height\":36},")
+                    .append("\"large\":{\"url\":\"https://dl.airtable.com/large").append(i).append(".jpg\",\"width\":512,\"height\":512}}}");
+        }
+        return json.append(']').toString();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import com.google.gson.Gson;
+import com.sybit.airtable.converter.ListConverter;
+import com.sybit.airtable.converter.MapConverter;
+import com.sybit.airtable.exception.AirtableException;
+import com.sybit.airtable.vo.Attachment;
+import com.sybit.airtable.vo.Thumbnail;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Conversion of attachments and thumbnails read by Gson.
+ *
+ * @since 0.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConverterBenchmark {
+
+    @Param({"1", "10"})
+    private int attachments;
+
+    private ListConverter listConverter;
+
+    private MapConverter mapConverter;
+
+    private List<?> attachmentList;
+
+    private Map<?, ?> thumbnails;
+
+    @Setup
+    public void setup() throws AirtableException {
+        BenchmarkData.configure();
+
+        listConverter = new ListConverter();
+        listConverter.setListClass(Attachment.class);
+        mapConverter = new MapConverter();
+        mapConverter.setMapClass(Thumbnail.class);
+
+        attachmentList = new Gson().fromJson(BenchmarkData.attachments(attachments), List.class);
+        thumbnails = (Map<?, ?>) ((Map<?, ?>) attachmentList.get(0)).get("thumbnails");
+    }
+
+    @Benchmark
+    public Object convertAttachments() {
+        return listConverter.convert(List.class, attachmentList);
+    }
+
+    @Benchmark
+    public Object convertThumbnails() {
+        return mapConverter.convert(Map.class, thumbnails);
+    }
+}
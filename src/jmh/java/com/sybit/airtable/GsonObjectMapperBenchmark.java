@@ -0,0 +1,50 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import com.sybit.airtable.vo.Records;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Deserialization of a page of records by <code>GsonObjectMapper</code>.
+ *
+ * @since 0.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GsonObjectMapperBenchmark {
+
+    @Param({"10", "100"})
+    private int records;
+
+    private GsonObjectMapper objectMapper;
+
+    private String page;
+
+    @Setup
+    public void setup() {
+        objectMapper = new GsonObjectMapper();
+        page = BenchmarkData.moviePage(records, 2);
+    }
+
+    @Benchmark
+    public Records readRecords() {
+        return objectMapper.readValue(page, Records.class);
+    }
+}
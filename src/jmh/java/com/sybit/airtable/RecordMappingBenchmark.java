@@ -0,0 +1,99 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import com.sybit.airtable.exception.AirtableException;
+import com.sybit.airtable.movies.Actor;
+import com.sybit.airtable.movies.Movie;
+import com.sybit.airtable.vo.Records;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Mapping of records to the <code>movies</code> classes.
+ *
+ * <code>transformMovies</code> maps records already read by Gson, as done for a
+ * custom <code>ObjectMapper</code>. <code>readMovies</code> decodes records directly
+ * from the response, as done for <code>GsonObjectMapper</code>.
+ *
+ * @since 0.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecordMappingBenchmark {
+
+    private static final int RECORDS = 100;
+
+    private Table<Movie> movieTable;
+
+    private RecordMapper<Movie> movieMapper;
+
+    private RecordMapper<Actor> actorMapper;
+
+    private Records movies;
+
+    private byte[] moviePage;
+
+    private byte[] actorRecord;
+
+    @Setup
+    public void setup() throws AirtableException {
+        BenchmarkData.configure();
+
+        movieTable = new Table<>("Movies", Movie.class);
+        movieMapper = new RecordMapper<>(Movie.class);
+        actorMapper = new RecordMapper<>(Actor.class);
+
+        final String page = BenchmarkData.moviePage(RECORDS, 2);
+        movies = new GsonObjectMapper().readValue(page, Records.class);
+        moviePage = page.getBytes(StandardCharsets.UTF_8);
+        actorRecord = BenchmarkData.actorRecord(2).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public void transformMovies(Blackhole blackhole) throws InvocationTargetException, IllegalAccessException, InstantiationException {
+        for (Map<String, Object> record : movies.getRecords()) {
+            blackhole.consume(movieTable.transform(record, new Movie()));
+        }
+    }
+
+    @Benchmark
+    public RecordPage<Movie> readMovies() throws IOException, InvocationTargetException, IllegalAccessException, InstantiationException {
+        return new RecordReader<>(movieMapper).readPage(new ByteArrayInputStream(moviePage));
+    }
+
+    @Benchmark
+    public Actor readActor() throws IOException, InvocationTargetException, IllegalAccessException, InstantiationException {
+        return new RecordReader<>(actorMapper).readRecord(new ByteArrayInputStream(actorRecord));
+    }
+
+    @Benchmark
+    public Actor setProperties() throws InvocationTargetException, IllegalAccessException, InstantiationException {
+        final Actor actor = actorMapper.newInstance();
+        actorMapper.setProperty(actor, "id", "recActor00000001");
+        actorMapper.setProperty(actor, "Name", "Marlon Brando");
+        actorMapper.setProperty(actor, "Biography", "Marlon Brando Jr. was an American actor and film director.");
+        return actor;
+    }
+}
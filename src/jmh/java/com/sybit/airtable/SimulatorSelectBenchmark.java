@@ -0,0 +1,121 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import com.sybit.airtable.exception.AirtableException;
+import com.sybit.airtable.mock.AirtableSimulator;
+import com.sybit.airtable.movies.Movie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Scan of a large table served by <code>AirtableSimulator</code> with network latency.
+ *
+ * @since 0.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class SimulatorSelectBenchmark {
+
+    private static final String BASE = "appSimulated";
+
+    private static final int ROWS = 100000;
+
+    @Param({"0", "2"})
+    private int prefetchPages;
+
+    private AirtableSimulator simulator;
+
+    private Airtable airtable;
+
+    private Table<Movie> movies;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException, AirtableException {
+        simulator = new AirtableSimulator()
+                .table(BASE, "Movies", ROWS, i -> Collections.singletonMap("Name", "Movie " + i))
+                .requestsPerSecond(0)
+                .latency(20)
+                .start();
+
+        final Configuration config = new Configuration("key", simulator.getEndpointUrl(), null);
+        config.setRequestsPerSecond(1000);
+        airtable = new Airtable().configure(config);
+        movies = airtable.base(BASE).table("Movies", Movie.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        airtable.close();
+        simulator.close();
+    }
+
+    @Benchmark
+    public long scan() {
+        try (Stream<Movie> stream = (prefetchPages == 0) ? movies.stream(ALL) : movies.stream(ALL, prefetchPages)) {
+            return stream.count();
+        }
+    }
+
+    private static final Query ALL = new Query() {
+        @Override
+        public Integer getMaxRecords() {
+            return null;
+        }
+
+        @Override
+        public String getView() {
+            return null;
+        }
+
+        @Override
+        public List<Sort> getSort() {
+            return null;
+        }
+
+        @Override
+        public String filterByFormula() {
+            return null;
+        }
+
+        @Override
+        public String[] getFields() {
+            return null;
+        }
+
+        @Override
+        public Integer getPageSize() {
+            return null;
+        }
+
+        @Override
+        public String getOffset() {
+            return null;
+        }
+    };
+}
@@ -7,26 +7,26 @@
 package com.sybit.airtable;
 
 import com.mashape.unirest.http.ObjectMapper;
-import com.mashape.unirest.http.Unirest;
 import com.sybit.airtable.converter.ListConverter;
 import com.sybit.airtable.converter.MapConverter;
 import com.sybit.airtable.exception.AirtableException;
 import com.sybit.airtable.vo.Attachment;
 import com.sybit.airtable.vo.Thumbnail;
 
-import org.apache.http.HttpHost;
 import org.apache.commons.beanutils.ConvertUtils;
 import org.apache.commons.beanutils.converters.DateConverter;
 import org.apache.commons.beanutils.converters.DateTimeConverter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Representation Class of Airtable. It is the entry class to access Airtable
@@ -40,9 +40,12 @@ import java.util.Properties;
  * <code>AIRTABLE_API_KEY=foo</code>. + On the other hand the API-key could also
  * be added by using the method <code>Airtable.configure(String apiKey)</code>.
  *
+ * Each instance owns a pool of HTTP connections, which is released by
+ * <code>close()</code>.
+ *
  * @since 0.1
  */
-public class Airtable {
+public class Airtable implements Closeable {
 
     private static final Logger LOG = LoggerFactory.getLogger(Airtable.class);
 
@@ -51,6 +54,14 @@ public class Airtable {
 
     private Configuration config;
 
+    private ObjectMapper objectMapper;
+
+    private RestClient restClient;
+
+    private final SingleFlight singleFlight = new SingleFlight();
+
+    private final Map<String, RateController> rateControllers = new ConcurrentHashMap<>();
+
     /**
      * Configure, <code>AIRTABLE_API_KEY</code> passed by Java property,
      * enviroment variable or within credentials.properties.
@@ -149,13 +160,10 @@ public class Airtable {
 
         if (config.getTimeout() != null) {
             LOG.info("Set connection timeout to: " + config.getTimeout() + "ms.");
-            Unirest.setTimeouts(config.getTimeout(), config.getTimeout());
         }
+        configureClient();
 
-        configureProxy(config.getEndpointUrl());
-
-        // Only one time
-        Unirest.setObjectMapper(objectMapper);
+        this.objectMapper = objectMapper;
 
         // Add specific Converter for Date
         DateTimeConverter dtConverter = new DateConverter();
@@ -181,14 +189,26 @@ public class Airtable {
     public void setProxy(String proxy) {
 
         this.config.setProxy(proxy);
-        if (proxy == null) {
-            Unirest.setProxy(null);
-        } else {
-            Unirest.setProxy(HttpHost.create(this.config.getProxy()));
+        if (this.restClient != null) {
+            this.restClient.setProxy(proxy);
         }
 
     }
 
+    /**
+     * Create HTTP client of this instance by current configuration. A previous
+     * client is closed.
+     */
+    private void configureClient() {
+        final RestClient previous = this.restClient;
+        this.restClient = new RestClient(this.config);
+        if (previous != null) {
+            previous.close();
+        }
+
+        configureProxy(this.config.getEndpointUrl());
+    }
+
     /**
      * Set Proxy environment in Configuration.
      *
@@ -261,6 +281,68 @@ public class Airtable {
         return b;
     }
 
+    /**
+     * Get rate limiter of given base.
+     *
+     * There is one rate limiter per base id, which is shared by all <code>Base</code>
+     * objects of the same id.
+     *
+     * @param base the base id.
+     * @return rate limiter of base.
+     */
+    RateLimiter rateLimiter(String base) {
+        return rateController(base).getRateLimiter();
+    }
+
+    /**
+     * Get adaptive control of the requests to given base.
+     *
+     * @param base the base id.
+     * @return rate controller of base.
+     */
+    RateController rateController(String base) {
+        return rateControllers.computeIfAbsent(base, key -> new RateController(new RateLimiter(
+                (config != null) ? config.getRequestsPerSecond() : Configuration.REQUESTS_PER_SECOND)));
+    }
+
+    /**
+     * Get the ObjectMapper used to read and write records.
+     *
+     * @return the ObjectMapper or <code>null</code> if not configured.
+     */
+    ObjectMapper objectMapper() {
+        return objectMapper;
+    }
+
+    /**
+     * Get the HTTP client of this instance.
+     *
+     * @return the client or <code>null</code> if not configured.
+     */
+    RestClient restClient() {
+        return restClient;
+    }
+
+    /**
+     * Get the coalescing of identical reads of this instance.
+     *
+     * @return the single-flight.
+     */
+    SingleFlight singleFlight() {
+        return singleFlight;
+    }
+
+    /**
+     * Close the HTTP connections of this instance.
+     */
+    @Override
+    public void close() {
+        if (this.restClient != null) {
+            this.restClient.close();
+            this.restClient = null;
+        }
+    }
+
     public Configuration getConfig() {
         return config;
     }
@@ -269,7 +351,7 @@ public class Airtable {
         assert config != null : "config was null";
 
         this.config = config;
-        configureProxy(config.getEndpointUrl());
+        configureClient();
     }
 
     /**
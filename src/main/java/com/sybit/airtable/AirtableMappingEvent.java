@@ -0,0 +1,33 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of mapping a response to records.
+ *
+ * @since 0.3
+ */
+@Name("com.sybit.airtable.Mapping")
+@Label("Airtable Mapping")
+@Category("Airtable")
+@Description("Mapping of a response to records")
+@StackTrace(false)
+final class AirtableMappingEvent extends jdk.jfr.Event {
+
+    @Label("Type")
+    @Description("Class of the records")
+    Class<?> type;
+
+    @Label("Records")
+    int records;
+}
@@ -0,0 +1,47 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of a request of a <code>Table</code>, including waits
+ * for rate limits and retries.
+ *
+ * @since 0.3
+ */
+@Name("com.sybit.airtable.Request")
+@Label("Airtable Request")
+@Category("Airtable")
+@Description("Request of an operation of a table, including waits for rate limits and retries")
+@StackTrace(false)
+final class AirtableRequestEvent extends jdk.jfr.Event {
+
+    @Label("Table")
+    String table;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Method")
+    String method;
+
+    @Label("Status")
+    @Description("HTTP status code of the last attempt, 0 if it failed without response")
+    int status;
+
+    @Label("Page Offset")
+    @Description("Offset of the requested page of select")
+    String pageOffset;
+
+    @Label("Retries")
+    int retries;
+}
@@ -10,8 +10,8 @@ import com.sybit.airtable.vo.Records;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Representation Class of Airtable Base.
@@ -22,12 +22,18 @@ public class Base {
 
     private static final Logger LOG = LoggerFactory.getLogger( Base.class );
 
-    private final Map<String, Table> tableMap = new HashMap<>();
+    /**
+     * Tables by name and class of rows.
+     */
+    private final ConcurrentMap<String, ConcurrentMap<Class<?>, Table<?>>> tableMap = new ConcurrentHashMap<>();
 
     private final String baseName;
 
     private final Airtable parent;
 
+    private final RateLimiter rateLimiter;
+
+    private final RateController rateController;
 
     /**
      * Create Airtable Base with given baseName ID.
@@ -41,6 +47,8 @@ public class Base {
 
         this.baseName = name;
         this.parent = airtable;
+        this.rateController = airtable.rateController(name);
+        this.rateLimiter = rateController.getRateLimiter();
     }
     
     /**
@@ -56,28 +64,68 @@ public class Base {
      * @param name Name of required table.
      * @return Object to access table.
      */
-    public Table table(String name) {
+    public Table<Records> table(String name) {
         return table(name, Records.class);
     }
 
     /**
      * Get Table object of given table.
+     *
+     * The Table object is created once for each name and class and could be
+     * shared by concurrent threads.
      * @param name Name of required table.
      * @param clazz Class representing row of resultsets
+     * @param <T> class representing row of resultsets
      * @return Object to access table.
      */
-    public Table table(String name, Class clazz) {
+    public <T> Table<T> table(String name, Class<T> clazz) {
         assert name != null : "name was null";
         assert clazz != null : "clazz was null";
 
-        if(!tableMap.containsKey(name)) {
-            LOG.debug("Create new instance for table [" + name + "]");
-            Table t = new Table(name, clazz);
-            t.setParent(this);
-            tableMap.put(name, t);
+        ConcurrentMap<Class<?>, Table<?>> tables = tableMap.get(name);
+        if (tables == null) {
+            tables = tableMap.computeIfAbsent(name, key -> new ConcurrentHashMap<>());
+        }
+
+        Table<?> table = tables.get(clazz);
+        if (table == null) {
+            table = tables.computeIfAbsent(clazz, key -> {
+                LOG.debug("Create new instance for table [{}]", name);
+                final Table<T> t = new Table<>(name, clazz);
+                t.setParent(this);
+                return t;
+            });
         }
+        return typed(table);
+    }
 
-        return  tableMap.get(name);
+    /**
+     * Cast table of the registry, which is registered by the class of its rows.
+     *
+     * @param table table registered for class <code>T</code>.
+     * @return the table.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Table<T> typed(Table<?> table) {
+        return (Table<T>) table;
+    }
+
+    /**
+     * Get rate limiter of base.
+     *
+     * The rate limiter is shared by all tables of the base.
+     * @return rate limiter of base.
+     */
+    public RateLimiter rateLimiter() {
+        return rateLimiter;
+    }
+
+    /**
+     * Get adaptive control of the requests to the base.
+     * @return rate controller of base.
+     */
+    RateController rateController() {
+        return rateController;
     }
 
     /**
@@ -6,6 +6,12 @@
  */
 package com.sybit.airtable;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+
 /**
  * Configuration settings for Airtable.
  * Used by class <code>Airtable</code> to configure basic settings.
@@ -16,10 +22,45 @@ public class Configuration {
 
     public static final String ENDPOINT_URL = "https://api.airtable.com/v0";
 
+    /**
+     * Request limit of Airtable per base.
+     */
+    public static final double REQUESTS_PER_SECOND = 5;
+
+    /**
+     * Default maximum number of pooled connections.
+     */
+    public static final int MAX_CONNECTIONS = 200;
+
+    /**
+     * Default maximum number of pooled connections per route.
+     */
+    public static final int MAX_CONNECTIONS_PER_ROUTE = 20;
+
+    /**
+     * Default time in milliseconds to keep an idle connection alive.
+     */
+    public static final long KEEP_ALIVE = 30000;
+
+    /**
+     * Default time in milliseconds after which idle connections are evicted.
+     */
+    public static final long IDLE_TIMEOUT = 60000;
+
     private String endpointUrl;
     private String apiKey;
     private String proxy;
     private Long timeout;
+    private double requestsPerSecond = REQUESTS_PER_SECOND;
+    private int maxConnections = MAX_CONNECTIONS;
+    private int maxConnectionsPerRoute = MAX_CONNECTIONS_PER_ROUTE;
+    private long keepAlive = KEEP_ALIVE;
+    private long idleTimeout = IDLE_TIMEOUT;
+    private boolean singleFlight;
+    private RetryPolicy retryPolicy = RetryPolicy.DEFAULT;
+    private MetricsListener metricsListener;
+    private Executor asyncExecutor;
+    private final List<RequestInterceptor> interceptors = new CopyOnWriteArrayList<>();
 
     /**
      * Configure API using given API Key ,default endpoint and no Proxy.
@@ -74,6 +115,194 @@ public class Configuration {
         this.timeout = timeout;
     }
 
+    /**
+     * Get maximum number of requests per second and base.
+     * @return
+     */
+    public double getRequestsPerSecond() {
+        return requestsPerSecond;
+    }
+
+    /**
+     * Set maximum number of requests per second and base.
+     *
+     * Requests are paced by the client to stay below the limit of Airtable.
+     * @param requestsPerSecond
+     */
+    public void setRequestsPerSecond(double requestsPerSecond) {
+        this.requestsPerSecond = requestsPerSecond;
+    }
+
+    /**
+     * Get maximum number of pooled connections.
+     * @return
+     */
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    /**
+     * Set maximum number of pooled connections.
+     * @param maxConnections
+     */
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    /**
+     * Get maximum number of pooled connections per route.
+     * @return
+     */
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    /**
+     * Set maximum number of pooled connections per route.
+     *
+     * All requests to Airtable share one route, so this limits the number of
+     * concurrent requests.
+     * @param maxConnectionsPerRoute
+     */
+    public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+    }
+
+    /**
+     * Get maximum time in milliseconds to keep an idle connection alive.
+     * @return
+     */
+    public long getKeepAlive() {
+        return keepAlive;
+    }
+
+    /**
+     * Set maximum time in milliseconds to keep an idle connection alive.
+     *
+     * A shorter keep-alive announced by the server takes precedence.
+     * @param keepAlive
+     */
+    public void setKeepAlive(long keepAlive) {
+        this.keepAlive = keepAlive;
+    }
+
+    /**
+     * Get time in milliseconds after which idle connections are evicted.
+     * @return
+     */
+    public long getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    /**
+     * Set time in milliseconds after which idle connections are evicted.
+     * @param idleTimeout
+     */
+    public void setIdleTimeout(long idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * Is coalescing of concurrent identical reads enabled?
+     * @return
+     */
+    public boolean isSingleFlight() {
+        return singleFlight;
+    }
+
+    /**
+     * Enable coalescing of concurrent identical reads.
+     *
+     * While a <code>find</code> or a page of a <code>select</code> is loaded,
+     * identical reads of other threads wait for its result instead of sending
+     * their own request. The callers share the response only, each of them
+     * gets its own decoded records.
+     * @param singleFlight
+     */
+    public void setSingleFlight(boolean singleFlight) {
+        this.singleFlight = singleFlight;
+    }
+
+    /**
+     * Get limits of retries of failed requests.
+     * @return
+     */
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    /**
+     * Set limits of retries of failed requests.
+     *
+     * Default is <code>RetryPolicy.DEFAULT</code>, whose retry budget is
+     * shared by all configurations using it.
+     * @param retryPolicy
+     */
+    public void setRetryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+    }
+
+    /**
+     * Get listener of the requests sent by tables.
+     * @return
+     */
+    public MetricsListener getMetricsListener() {
+        return metricsListener;
+    }
+
+    /**
+     * Set listener of the requests sent by tables, e.g. <code>InMemoryMetrics</code>.
+     * @param metricsListener
+     */
+    public void setMetricsListener(MetricsListener metricsListener) {
+        this.metricsListener = metricsListener;
+    }
+
+    /**
+     * Get executor of the responses of asynchronous requests.
+     * @return
+     */
+    public Executor getAsyncExecutor() {
+        return asyncExecutor;
+    }
+
+    /**
+     * Set executor of the responses of asynchronous requests.
+     *
+     * Responses are decoded, retried, passed to interceptors and metrics,
+     * and the futures of asynchronous operations are completed by this
+     * executor, not by the I/O threads of the HTTP client. Default is
+     * <code>ForkJoinPool.commonPool()</code>.
+     * @param asyncExecutor
+     */
+    public void setAsyncExecutor(Executor asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    /**
+     * Get interceptors of the requests sent by tables.
+     * @return interceptors in the order they are called before a request.
+     */
+    public List<RequestInterceptor> getInterceptors() {
+        return Collections.unmodifiableList(interceptors);
+    }
+
+    /**
+     * Add interceptor of the requests sent by tables, e.g. <code>SlowRequestLogger</code>.
+     * @param interceptor
+     */
+    public void addInterceptor(RequestInterceptor interceptor) {
+        interceptors.add(Objects.requireNonNull(interceptor, "interceptor"));
+    }
+
+    /**
+     * Remove interceptor of the requests sent by tables.
+     * @param interceptor
+     */
+    public void removeInterceptor(RequestInterceptor interceptor) {
+        interceptors.remove(interceptor);
+    }
+
     /**
      * @return the proxy
      */
@@ -0,0 +1,29 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+/**
+ * Format of <code>Table.export</code>.
+ *
+ * @since 0.3
+ */
+public enum ExportFormat {
+
+    /**
+     * One JSON object of the API per line, with <code>id</code>,
+     * <code>fields</code> and <code>createdTime</code>, as it was received.
+     */
+    NDJSON,
+
+    /**
+     * Comma-separated values according to RFC 4180 with a header line. The
+     * columns are <code>id</code>, <code>createdTime</code> and the fields of
+     * the query, which are required, as the records of later pages may have
+     * fields not seen before. Lists and objects are written as JSON.
+     */
+    CSV
+}
@@ -0,0 +1,129 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+/**
+ * Emits events to the Java Flight Recorder, if it is available.
+ *
+ * The event classes are only loaded if the runtime provides
+ * <code>jdk.jfr</code>, so the client still runs on older Java 8 runtimes.
+ * Events are handed out as <code>Object</code> for the same reason. While no
+ * recording is enabled for an event, <code>begin</code> returns
+ * <code>null</code> and nothing else is done.
+ *
+ * @since 0.3
+ */
+final class FlightRecorderEvents {
+
+    private static final boolean AVAILABLE = isAvailable();
+
+    private FlightRecorderEvents() {
+    }
+
+    /**
+     * Start event of a request.
+     *
+     * @return the event, or <code>null</code> if not recorded.
+     */
+    static Object beginRequest() {
+        return AVAILABLE ? Events.beginRequest() : null;
+    }
+
+    /**
+     * Commit event of a request.
+     *
+     * @param event the event returned by <code>beginRequest</code>.
+     * @param table name of table.
+     * @param request the request.
+     * @param status HTTP status code of the last attempt, 0 if failed without response.
+     * @param retries number of retries.
+     */
+    static void commitRequest(Object event, String table, RestRequest request, int status, int retries) {
+        if (event != null) {
+            Events.commitRequest(event, table, request, status, retries);
+        }
+    }
+
+    /**
+     * Start event of mapping a response.
+     *
+     * @return the event, or <code>null</code> if not recorded.
+     */
+    static Object beginMapping() {
+        return AVAILABLE ? Events.beginMapping() : null;
+    }
+
+    /**
+     * Commit event of mapping a response.
+     *
+     * @param event the event returned by <code>beginMapping</code>.
+     * @param type class of the records.
+     * @param records number of records.
+     */
+    static void commitMapping(Object event, Class<?> type, int records) {
+        if (event != null) {
+            Events.commitMapping(event, type, records);
+        }
+    }
+
+    private static boolean isAvailable() {
+        try {
+            Class.forName("jdk.jfr.Event", false, FlightRecorderEvents.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Access to the event classes, which is only loaded if <code>jdk.jfr</code> is available.
+     */
+    private static final class Events {
+
+        static Object beginRequest() {
+            final AirtableRequestEvent event = new AirtableRequestEvent();
+            if (!event.isEnabled()) {
+                return null;
+            }
+            event.begin();
+            return event;
+        }
+
+        static Object beginMapping() {
+            final AirtableMappingEvent event = new AirtableMappingEvent();
+            if (!event.isEnabled()) {
+                return null;
+            }
+            event.begin();
+            return event;
+        }
+
+        static void commitRequest(Object event, String table, RestRequest request, int status, int retries) {
+            final AirtableRequestEvent requestEvent = (AirtableRequestEvent) event;
+            requestEvent.end();
+            if (requestEvent.shouldCommit()) {
+                requestEvent.table = table;
+                requestEvent.operation = request.getOperation();
+                requestEvent.method = request.getMethod().name();
+                requestEvent.status = status;
+                requestEvent.pageOffset = request.getOffset();
+                requestEvent.retries = retries;
+                requestEvent.commit();
+            }
+        }
+
+        static void commitMapping(Object event, Class<?> type, int records) {
+            final AirtableMappingEvent mappingEvent = (AirtableMappingEvent) event;
+            mappingEvent.end();
+            if (mappingEvent.shouldCommit()) {
+                mappingEvent.type = type;
+                mappingEvent.records = records;
+                mappingEvent.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,299 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics listener which keeps counters and latency histograms in memory.
+ *
+ * Latencies are recorded per operation in buckets with a relative error of
+ * at most 12.5 percent, so recording is cheap and lock-free. Percentiles are
+ * taken from a snapshot of the histogram:
+ *
+ * <pre>
+ * InMemoryMetrics metrics = new InMemoryMetrics();
+ * config.setMetricsListener(metrics);
+ * ...
+ * long p99 = metrics.getSnapshot("select").getPercentile(99);
+ * </pre>
+ *
+ * @since 0.3
+ */
+public class InMemoryMetrics implements MetricsListener {
+
+    private final ConcurrentMap<String, Histogram> latencies = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+
+    private final LongAdder retries = new LongAdder();
+
+    private final LongAdder bytesReceived = new LongAdder();
+
+    private final LongAdder recordsDecoded = new LongAdder();
+
+    private final LongAdder networkTime = new LongAdder();
+
+    private final LongAdder mappingTime = new LongAdder();
+
+    @Override
+    public void onAttempt(String table, String operation, int status, long nanos, long bytes) {
+        statusCounts.computeIfAbsent(status, key -> new LongAdder()).increment();
+        bytesReceived.add(bytes);
+        networkTime.add(nanos);
+    }
+
+    @Override
+    public void onRetry(String table, String operation, int attempt, String reason) {
+        retries.increment();
+    }
+
+    @Override
+    public void onDecoded(String table, String operation, int records, long nanos) {
+        recordsDecoded.add(records);
+        mappingTime.add(nanos);
+    }
+
+    @Override
+    public void onRequest(String table, String operation, long nanos, boolean success) {
+        Histogram histogram = latencies.get(operation);
+        if (histogram == null) {
+            histogram = latencies.computeIfAbsent(operation, key -> new Histogram());
+        }
+        histogram.record(nanos, success);
+    }
+
+    /**
+     * @return names of operations with recorded requests.
+     */
+    public Set<String> getOperations() {
+        return latencies.keySet();
+    }
+
+    /**
+     * Get snapshot of the latencies of the requests of an operation.
+     *
+     * @param operation name of operation, e.g. <code>select</code>.
+     * @return the snapshot, empty if no request was recorded.
+     */
+    public Snapshot getSnapshot(String operation) {
+        final Histogram histogram = latencies.get(operation);
+        return (histogram != null) ? histogram.snapshot() : new Histogram().snapshot();
+    }
+
+    /**
+     * Get number of attempts by HTTP status code, 0 for attempts failed without response.
+     *
+     * @return counts by status code.
+     */
+    public Map<Integer, Long> getStatusCounts() {
+        final Map<Integer, Long> counts = new TreeMap<>();
+        statusCounts.forEach((status, count) -> counts.put(status, count.sum()));
+        return counts;
+    }
+
+    /**
+     * @return number of attempts answered by 429 because the rate limit was exceeded.
+     */
+    public long getRateLimited() {
+        final LongAdder count = statusCounts.get(429);
+        return (count != null) ? count.sum() : 0;
+    }
+
+    /**
+     * @return number of retried attempts.
+     */
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    /**
+     * @return number of bytes of all response bodies.
+     */
+    public long getBytesReceived() {
+        return bytesReceived.sum();
+    }
+
+    /**
+     * @return number of records mapped from responses.
+     */
+    public long getRecordsDecoded() {
+        return recordsDecoded.sum();
+    }
+
+    /**
+     * @return time in nanoseconds of all attempts, without waits for rate limits and retries.
+     */
+    public long getNetworkTime() {
+        return networkTime.sum();
+    }
+
+    /**
+     * @return time in nanoseconds of mapping responses to objects.
+     */
+    public long getMappingTime() {
+        return mappingTime.sum();
+    }
+
+    /**
+     * Latencies of the requests of an operation at a point of time.
+     */
+    public static final class Snapshot {
+
+        private final long[] counts;
+
+        private final long count;
+
+        private final long errors;
+
+        private final long sum;
+
+        private final long max;
+
+        private Snapshot(long[] counts, long errors, long sum, long max) {
+            long total = 0;
+            for (long c : counts) {
+                total += c;
+            }
+            this.counts = counts;
+            this.count = total;
+            this.errors = errors;
+            this.sum = sum;
+            this.max = max;
+        }
+
+        /**
+         * @return number of requests.
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * @return number of requests not answered by status 200.
+         */
+        public long getErrors() {
+            return errors;
+        }
+
+        /**
+         * @return mean latency in nanoseconds, 0 if there are no requests.
+         */
+        public long getMean() {
+            return (count > 0) ? sum / count : 0;
+        }
+
+        /**
+         * @return maximum latency in nanoseconds, 0 if there are no requests.
+         */
+        public long getMax() {
+            return (count > 0) ? max : 0;
+        }
+
+        /**
+         * Get latency which is not exceeded by the given share of requests.
+         *
+         * @param percentile percentile between 0 and 100, e.g. 99.
+         * @return latency in nanoseconds, 0 if there are no requests.
+         */
+        public long getPercentile(double percentile) {
+            if (percentile < 0 || percentile > 100) {
+                throw new IllegalArgumentException("percentile must be between 0 and 100 but was " + percentile);
+            }
+            if (count == 0) {
+                return 0;
+            }
+
+            final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(max, Histogram.upperBound(i));
+                }
+            }
+            return max;
+        }
+    }
+
+    /**
+     * Histogram of latencies with buckets of exponentially growing width.
+     *
+     * Values are kept in microseconds. Values below 16 have their own bucket,
+     * larger values fall into one of 8 buckets per power of two.
+     */
+    static final class Histogram {
+
+        private static final int SUB_BUCKETS = 8;
+
+        private static final int LINEAR = 2 * SUB_BUCKETS;
+
+        private final AtomicLongArray counts = new AtomicLongArray(LINEAR + (64 - 4) * SUB_BUCKETS);
+
+        private final LongAdder errors = new LongAdder();
+
+        private final LongAdder sum = new LongAdder();
+
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+        void record(long nanos, boolean success) {
+            final long value = Math.max(0, nanos);
+            counts.incrementAndGet(index(value / 1000));
+            sum.add(value);
+            max.accumulate(value);
+            if (!success) {
+                errors.increment();
+            }
+        }
+
+        Snapshot snapshot() {
+            final long[] copy = new long[counts.length()];
+            for (int i = 0; i < copy.length; i++) {
+                copy[i] = counts.get(i);
+            }
+            return new Snapshot(copy, errors.sum(), sum.sum(), max.get());
+        }
+
+        /**
+         * @param micros value in microseconds.
+         * @return index of bucket.
+         */
+        static int index(long micros) {
+            if (micros < LINEAR) {
+                return (int) micros;
+            }
+            final int exponent = 63 - Long.numberOfLeadingZeros(micros);
+            final int sub = (int) (micros >>> (exponent - 3)) & (SUB_BUCKETS - 1);
+            return LINEAR + (exponent - 4) * SUB_BUCKETS + sub;
+        }
+
+        /**
+         * @param index index of bucket.
+         * @return largest value of bucket in nanoseconds.
+         */
+        static long upperBound(int index) {
+            if (index < LINEAR) {
+                return index * 1000L + 999;
+            }
+            final int exponent = (index - LINEAR) / SUB_BUCKETS + 4;
+            final int sub = (index - LINEAR) % SUB_BUCKETS;
+            final long lower = (long) (SUB_BUCKETS + sub) << (exponent - 3);
+            final long width = 1L << (exponent - 3);
+            if (lower + width > Long.MAX_VALUE / 1000) {
+                return Long.MAX_VALUE;
+            }
+            return (lower + width) * 1000 - 1;
+        }
+    }
+}
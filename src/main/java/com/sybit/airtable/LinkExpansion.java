@@ -0,0 +1,197 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import com.sybit.airtable.exception.AirtableException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Expansion of a linked-record field into the linked records.
+ *
+ * @param <T> class of records containing the linked-record field.
+ * @param <L> class of linked records.
+ * @since 0.3
+ */
+class LinkExpansion<T, L> {
+
+    private final Function<T, ? extends Collection<String>> ids;
+
+    private final BiConsumer<T, List<L>> setter;
+
+    private final Table<L> target;
+
+    /**
+     * Maximum number of linked records kept by a scan.
+     */
+    static final int MAX_LINKED = 10000;
+
+    /**
+     *
+     * @param ids getter of ids of the linked-record field.
+     * @param setter setter of linked records.
+     * @param target table of linked records.
+     */
+    LinkExpansion(Function<T, ? extends Collection<String>> ids, BiConsumer<T, List<L>> setter, Table<L> target) {
+        this.ids = ids;
+        this.setter = setter;
+        this.target = target;
+    }
+
+    /**
+     * Start expansion of a scan. Each linked record is loaded at most once per
+     * scan, unless it was evicted, as a scan keeps at most
+     * {@link #MAX_LINKED} linked records, least recently used first out.
+     *
+     * @return expansion of the pages of a scan.
+     */
+    Scan newScan() {
+        return new Scan(MAX_LINKED);
+    }
+
+    /**
+     * Start expansion of a scan with given bound of kept linked records.
+     *
+     * @param maxLinked maximum number of linked records kept by the scan.
+     * @return expansion of the pages of a scan.
+     */
+    Scan newScan(int maxLinked) {
+        return new Scan(maxLinked);
+    }
+
+    /**
+     * Expansion of the pages of one scan. The pages may be expanded
+     * concurrently, e.g. by the partitions of a parallel scan, which share
+     * the loaded linked records.
+     */
+    class Scan {
+
+        /**
+         * Linked records loaded or being loaded by the scan, completed with
+         * <code>null</code> for ids not found. Guarded by itself.
+         */
+        private final Map<String, CompletableFuture<L>> linked;
+
+        /**
+         *
+         * @param maxLinked maximum number of linked records kept.
+         */
+        private Scan(final int maxLinked) {
+            this.linked = new LinkedHashMap<String, CompletableFuture<L>>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CompletableFuture<L>> eldest) {
+                    return size() > maxLinked;
+                }
+            };
+        }
+
+        /**
+         * Set linked records of all records of a page. Linked records not
+         * loaded before are loaded by one <code>findAll</code>. Linked records
+         * being loaded for another page are awaited instead of loaded again.
+         *
+         * @param records records of the page.
+         * @throws AirtableException if the linked records could not be loaded.
+         */
+        void expand(List<T> records) throws AirtableException {
+            final Map<String, CompletableFuture<L>> values = new HashMap<>();
+            final Map<String, CompletableFuture<L>> missing = new LinkedHashMap<>();
+            synchronized (linked) {
+                for (T record : records) {
+                    final Collection<String> recordIds = (record != null) ? ids.apply(record) : null;
+                    if (recordIds != null) {
+                        for (String id : recordIds) {
+                            if (!values.containsKey(id)) {
+                                CompletableFuture<L> value = linked.get(id);
+                                if (value == null) {
+                                    value = new CompletableFuture<>();
+                                    linked.put(id, value);
+                                    missing.put(id, value);
+                                }
+                                values.put(id, value);
+                            }
+                        }
+                    }
+                }
+            }
+
+            if (!missing.isEmpty()) {
+                load(missing);
+            }
+
+            for (T record : records) {
+                final Collection<String> recordIds = (record != null) ? ids.apply(record) : null;
+                if (recordIds != null) {
+                    final List<L> result = new ArrayList<>(recordIds.size());
+                    for (String id : recordIds) {
+                        final L value = await(values.get(id));
+                        if (value != null) {
+                            result.add(value);
+                        }
+                    }
+                    setter.accept(record, result);
+                }
+            }
+        }
+
+        /**
+         * Load linked records by one <code>findAll</code>. If loading failed,
+         * the records are removed, so they are loaded again by the next page.
+         *
+         * @param missing the ids to load and their pending values.
+         * @throws AirtableException if the linked records could not be loaded.
+         */
+        private void load(Map<String, CompletableFuture<L>> missing) throws AirtableException {
+            final Map<String, L> found;
+            try {
+                found = target.findAll(missing.keySet());
+            } catch (AirtableException | RuntimeException e) {
+                synchronized (linked) {
+                    for (Map.Entry<String, CompletableFuture<L>> entry : missing.entrySet()) {
+                        linked.remove(entry.getKey(), entry.getValue());
+                    }
+                }
+                for (CompletableFuture<L> value : missing.values()) {
+                    value.completeExceptionally(e);
+                }
+                throw e;
+            }
+            for (Map.Entry<String, CompletableFuture<L>> entry : missing.entrySet()) {
+                entry.getValue().complete(found.get(entry.getKey()));
+            }
+        }
+
+        /**
+         * Wait for a linked record, which may be loaded for another page.
+         *
+         * @param value the pending value.
+         * @return the linked record, <code>null</code> if not found.
+         * @throws AirtableException if loading failed or was interrupted.
+         */
+        private L await(CompletableFuture<L> value) throws AirtableException {
+            try {
+                return value.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AirtableException(e);
+            } catch (ExecutionException e) {
+                throw (e.getCause() instanceof AirtableException)
+                        ? new AirtableException(e.getCause().getMessage(), e.getCause())
+                        : new AirtableException(e.getCause());
+            }
+        }
+    }
+}
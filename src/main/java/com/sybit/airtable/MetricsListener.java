@@ -0,0 +1,74 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+/**
+ * Listener of the requests sent by <code>Table</code>.
+ *
+ * Set by <code>Configuration.setMetricsListener(MetricsListener)</code> to
+ * collect metrics. The operations are <code>select</code> (one page),
+ * <code>find</code>, <code>create</code>, <code>update</code> and
+ * <code>destroy</code>, also for their asynchronous and batch variants. The
+ * methods are called by the threads sending requests, so implementations
+ * must be thread-safe and fast. All methods do nothing by default.
+ *
+ * @see InMemoryMetrics
+ * @since 0.3
+ */
+public interface MetricsListener {
+
+    /**
+     * Listener which ignores all events.
+     */
+    MetricsListener NONE = new MetricsListener() {
+    };
+
+    /**
+     * Called after each attempt to send a request, including retries.
+     *
+     * @param table name of table.
+     * @param operation name of operation.
+     * @param status HTTP status code, 0 if the request failed without response.
+     * @param nanos time in nanoseconds from sending the request until the response was read.
+     * @param bytes length of the body of the response.
+     */
+    default void onAttempt(String table, String operation, int status, long nanos, long bytes) {
+    }
+
+    /**
+     * Called before a failed attempt is sent again.
+     *
+     * @param table name of table.
+     * @param operation name of operation.
+     * @param attempt number of the failed attempt, starting with 1.
+     * @param reason HTTP status code or name of the error of the failed attempt.
+     */
+    default void onRetry(String table, String operation, int attempt, String reason) {
+    }
+
+    /**
+     * Called after a successful response was mapped to objects.
+     *
+     * @param table name of table.
+     * @param operation name of operation.
+     * @param records number of records mapped.
+     * @param nanos time in nanoseconds of mapping.
+     */
+    default void onDecoded(String table, String operation, int records, long nanos) {
+    }
+
+    /**
+     * Called after the last attempt of a request, before its response is mapped.
+     *
+     * @param table name of table.
+     * @param operation name of operation.
+     * @param nanos time in nanoseconds of all attempts, including waits for rate limits and retries.
+     * @param success true if the request was answered by status 200.
+     */
+    default void onRequest(String table, String operation, long nanos, boolean success) {
+    }
+}
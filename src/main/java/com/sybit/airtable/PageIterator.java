@@ -0,0 +1,91 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import com.sybit.airtable.exception.AirtableException;
+import com.sybit.airtable.exception.UncheckedAirtableException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterator over the records of a paged select.
+ *
+ * Pages are loaded lazily: the next page is requested when all records of
+ * the current page have been handed out. Only the current page is held in memory.
+ *
+ * @param <T> class representing a row of the table.
+ * @since 0.3
+ */
+class PageIterator<T> implements Iterator<T> {
+
+    /**
+     * Loads the page for a given offset.
+     *
+     * @param <T> class representing a row of the table.
+     */
+    interface PageLoader<T> {
+
+        /**
+         * @param offset offset of the page, <code>null</code> for the first page.
+         * @return the loaded page.
+         * @throws AirtableException
+         */
+        RecordPage<T> load(String offset) throws AirtableException;
+    }
+
+    private final PageLoader<T> loader;
+
+    private Iterator<T> current;
+
+    private String offset;
+
+    private boolean lastPage;
+
+    /**
+     *
+     * @param loader loader of pages.
+     * @param offset offset of the first page, may be <code>null</code>.
+     */
+    PageIterator(PageLoader<T> loader, String offset) {
+        this.loader = loader;
+        this.offset = offset;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while ((current == null || !current.hasNext()) && !lastPage) {
+            nextPage();
+        }
+        return current != null && current.hasNext();
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    /**
+     * Load the next page and release the current one.
+     */
+    private void nextPage() {
+        final RecordPage<T> page;
+        try {
+            page = loader.load(offset);
+        } catch (AirtableException e) {
+            lastPage = true;
+            throw new UncheckedAirtableException(e);
+        }
+
+        current = page.getRecords().iterator();
+        offset = page.getOffset();
+        lastPage = offset == null;
+    }
+}
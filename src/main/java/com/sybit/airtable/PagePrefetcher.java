@@ -0,0 +1,136 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import com.sybit.airtable.exception.AirtableException;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Loads the pages of a select in a background thread ahead of the consumer.
+ *
+ * The offset of the next page is known as soon as a page has been received, so
+ * the next request is sent while the consumer is still processing the current page.
+ * At most <code>prefetchPages</code> loaded pages are buffered.
+ *
+ * @param <T> class representing a row of the table.
+ * @since 0.3
+ */
+class PagePrefetcher<T> implements PageIterator.PageLoader<T>, AutoCloseable {
+
+    /**
+     * Maximum number of pages to load ahead.
+     */
+    static final int MAX_PREFETCH_PAGES = 3;
+
+    private final BlockingQueue<Result<T>> queue;
+
+    private final Thread worker;
+
+    private volatile boolean closed;
+
+    /**
+     *
+     * @param loader loader of pages.
+     * @param offset offset of the first page, may be <code>null</code>.
+     * @param prefetchPages number of pages to load ahead (1 to 3).
+     * @param name name of the background thread.
+     */
+    PagePrefetcher(PageIterator.PageLoader<T> loader, String offset, int prefetchPages, String name) {
+        if (prefetchPages < 1 || prefetchPages > MAX_PREFETCH_PAGES) {
+            throw new IllegalArgumentException("prefetchPages must be between 1 and " + MAX_PREFETCH_PAGES + " but was " + prefetchPages);
+        }
+
+        this.queue = new ArrayBlockingQueue<>(prefetchPages);
+        this.worker = new Thread(() -> prefetch(loader, offset), name);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Load all pages one after another until the last page is reached.
+     *
+     * @param loader loader of pages.
+     * @param offset offset of the first page.
+     */
+    private void prefetch(PageIterator.PageLoader<T> loader, String offset) {
+        String next = offset;
+        try {
+            do {
+                final RecordPage<T> page;
+                try {
+                    page = loader.load(next);
+                } catch (AirtableException | RuntimeException e) {
+                    queue.put(new Result<>(null, e));
+                    return;
+                }
+                queue.put(new Result<>(page, null));
+                next = page.getOffset();
+            } while (next != null && !closed);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Get the next prefetched page.
+     *
+     * Pages are handed out in order, so <code>offset</code> is always the offset
+     * of the next page loaded in background.
+     *
+     * @param offset offset of the page.
+     * @return the loaded page.
+     * @throws AirtableException
+     */
+    @Override
+    public RecordPage<T> load(String offset) throws AirtableException {
+        if (closed) {
+            throw new IllegalStateException("prefetcher already closed");
+        }
+
+        final Result<T> result;
+        try {
+            result = queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AirtableException(e);
+        }
+
+        if (result.error instanceof AirtableException) {
+            throw (AirtableException) result.error;
+        } else if (result.error != null) {
+            throw (RuntimeException) result.error;
+        }
+        return result.page;
+    }
+
+    /**
+     * Stop loading of pages and release prefetched pages.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        worker.interrupt();
+        queue.clear();
+    }
+
+    /**
+     * Loaded page or error of loading.
+     */
+    private static class Result<T> {
+
+        private final RecordPage<T> page;
+
+        private final Exception error;
+
+        Result(RecordPage<T> page, Exception error) {
+            this.page = page;
+            this.error = error;
+        }
+    }
+}
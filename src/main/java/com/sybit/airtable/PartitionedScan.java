@@ -0,0 +1,177 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import com.sybit.airtable.exception.AirtableException;
+import com.sybit.airtable.exception.UncheckedAirtableException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Iterator over the records of several disjoint selects, which are paged
+ * concurrently.
+ *
+ * Each partition is paged through by its own background thread, so the
+ * requests of all partitions are in flight at the same time, as far as the
+ * rate limiter of the base permits. Pages are handed out in the order they
+ * were loaded, so the order of records is not defined. Each partition has
+ * at most one loaded page waiting to be taken, while its thread loads the
+ * next page.
+ *
+ * @param <T> class representing a row of the table.
+ * @since 0.3
+ */
+class PartitionedScan<T> implements Iterator<T>, AutoCloseable {
+
+    private final BlockingQueue<Result<T>> queue;
+
+    private final List<Thread> workers = new ArrayList<>();
+
+    private volatile boolean closed;
+
+    private int running;
+
+    private Iterator<T> current = Collections.emptyIterator();
+
+    /**
+     *
+     * @param loaders loaders of the pages of each partition.
+     * @param name prefix of the names of the background threads.
+     */
+    PartitionedScan(List<PageIterator.PageLoader<T>> loaders, String name) {
+        if (loaders.isEmpty()) {
+            throw new IllegalArgumentException("at least one partition is required");
+        }
+
+        this.queue = new LinkedBlockingQueue<>();
+        this.running = loaders.size();
+        for (int i = 0; i < loaders.size(); i++) {
+            final PageIterator.PageLoader<T> loader = loaders.get(i);
+            final Semaphore slot = new Semaphore(1);
+            final Thread worker = new Thread(() -> scan(loader, slot), name + "-" + i);
+            worker.setDaemon(true);
+            workers.add(worker);
+        }
+        for (Thread worker : workers) {
+            worker.start();
+        }
+    }
+
+    /**
+     * Load all pages of one partition, followed by the end of the partition.
+     *
+     * @param loader loader of the pages of the partition.
+     * @param slot permit to queue a page, released when the page is taken.
+     */
+    private void scan(PageIterator.PageLoader<T> loader, Semaphore slot) {
+        String next = null;
+        try {
+            do {
+                final RecordPage<T> page;
+                try {
+                    page = loader.load(next);
+                } catch (AirtableException | RuntimeException e) {
+                    queue.put(new Result<>(null, null, e));
+                    return;
+                }
+                slot.acquire();
+                queue.put(new Result<>(page, slot, null));
+                next = page.getOffset();
+            } while (next != null && !closed);
+            queue.put(new Result<>(null, null, null));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext() && running > 0) {
+            nextPage();
+        }
+        return current.hasNext();
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    /**
+     * Take the next loaded page of any partition.
+     */
+    private void nextPage() {
+        if (closed) {
+            throw new IllegalStateException("scan already closed");
+        }
+
+        final Result<T> result;
+        try {
+            result = queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new UncheckedAirtableException(new AirtableException(e));
+        }
+
+        if (result.error != null) {
+            close();
+            if (result.error instanceof AirtableException) {
+                throw new UncheckedAirtableException((AirtableException) result.error);
+            }
+            throw (RuntimeException) result.error;
+        }
+        if (result.page == null) {
+            running--;
+        } else {
+            result.slot.release();
+            current = result.page.getRecords().iterator();
+        }
+    }
+
+    /**
+     * Stop loading of pages of all partitions and release loaded pages.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        running = 0;
+        current = Collections.emptyIterator();
+        for (Thread worker : workers) {
+            worker.interrupt();
+        }
+        queue.clear();
+    }
+
+    /**
+     * Loaded page, end of a partition or error of loading.
+     */
+    private static class Result<T> {
+
+        private final RecordPage<T> page;
+
+        private final Semaphore slot;
+
+        private final Exception error;
+
+        Result(RecordPage<T> page, Semaphore slot, Exception error) {
+            this.page = page;
+            this.slot = slot;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import com.sybit.airtable.exception.AirtableException;
+import com.sybit.airtable.exception.RetryExhaustedException;
+import org.apache.http.client.utils.DateUtils;
+
+import java.util.Date;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Adaptive control of the requests to a base.
+ *
+ * The rate of the <code>RateLimiter</code> is decreased multiplicatively if the
+ * rate limit of Airtable was exceeded, and increased additively up to the
+ * configured rate by each successful request (AIMD). The time to wait before a
+ * rate limited request is sent again is taken from the header
+ * <code>Retry-After</code> if present, otherwise it grows exponentially with
+ * decorrelated jitter.
+ *
+ * @since 0.3
+ */
+class RateController {
+
+    /**
+     * Minimum time in nanoseconds to wait before a rate limited request is sent again.
+     */
+    static final long MIN_DELAY = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * Maximum time in nanoseconds to wait before a failed request is sent again.
+     */
+    static final long MAX_DELAY = TimeUnit.SECONDS.toNanos(30);
+
+    /**
+     * Minimum time in nanoseconds to wait before a request failed by a transient
+     * error is sent again.
+     */
+    static final long MIN_TRANSIENT_DELAY = TimeUnit.MILLISECONDS.toNanos(200);
+
+    /**
+     * Factor applied to the rate if the rate limit was exceeded.
+     */
+    static final double DECREASE = 0.5;
+
+    /**
+     * Share of the configured rate added by each successful request.
+     */
+    static final double INCREASE = 0.02;
+
+    /**
+     * Lowest share of the configured rate.
+     */
+    static final double MIN_RATE = 0.05;
+
+    /**
+     * Requests rate limited within this time in nanoseconds after a decrease
+     * are answers to requests sent before, so the rate is not decreased again.
+     */
+    private static final long DECREASE_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+    private final RateLimiter rateLimiter;
+
+    private final double maxRate;
+
+    private final LongSupplier clock;
+
+    private long lastDecrease;
+
+    /**
+     *
+     * @param rateLimiter rate limiter of the base.
+     */
+    RateController(RateLimiter rateLimiter) {
+        this(rateLimiter, System::nanoTime);
+    }
+
+    /**
+     *
+     * @param rateLimiter rate limiter of the base.
+     * @param clock time source in nanoseconds.
+     */
+    RateController(RateLimiter rateLimiter, LongSupplier clock) {
+        this.rateLimiter = rateLimiter;
+        this.maxRate = rateLimiter.getRate();
+        this.clock = clock;
+        this.lastDecrease = clock.getAsLong() - DECREASE_INTERVAL;
+    }
+
+    /**
+     * @return rate limiter of the base.
+     */
+    RateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    /**
+     * Increase rate after a request which was not rate limited.
+     */
+    synchronized void onSuccess() {
+        final double rate = rateLimiter.getRate();
+        if (rate < maxRate) {
+            rateLimiter.setRate(Math.min(maxRate, rate + maxRate * INCREASE));
+        }
+    }
+
+    /**
+     * Decrease rate after a request which was rate limited.
+     */
+    synchronized void onRateLimited() {
+        final long now = clock.getAsLong();
+        if (now - lastDecrease >= DECREASE_INTERVAL) {
+            lastDecrease = now;
+            rateLimiter.setRate(Math.max(maxRate * MIN_RATE, rateLimiter.getRate() * DECREASE));
+        }
+    }
+
+    /**
+     * Start retries of one request.
+     *
+     * @param policy limits of retries.
+     * @return the backoff of the request.
+     */
+    Backoff newBackoff(RetryPolicy policy) {
+        return new Backoff(policy, clock.getAsLong());
+    }
+
+    /**
+     * Get time to wait announced by header <code>Retry-After</code>.
+     *
+     * @param value value of the header, seconds or HTTP date.
+     * @return time to wait in nanoseconds, or -1 if not present or invalid.
+     */
+    static long retryAfter(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return -1;
+        }
+        try {
+            return TimeUnit.SECONDS.toNanos(Math.max(0, Long.parseLong(value.trim())));
+        } catch (NumberFormatException e) {
+            final Date date = DateUtils.parseDate(value.trim());
+            if (date == null) {
+                return -1;
+            }
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, date.getTime() - System.currentTimeMillis()));
+        }
+    }
+
+    /**
+     * Waits between retries of one request.
+     */
+    class Backoff {
+
+        private final RetryPolicy policy;
+
+        private final long started;
+
+        private final long deadline;
+
+        private long delay;
+
+        private int attempts = 1;
+
+        private Backoff(RetryPolicy policy, long started) {
+            this.policy = policy;
+            this.started = started;
+            this.deadline = started + TimeUnit.MILLISECONDS.toNanos(policy.getMaxRetryTime());
+        }
+
+        /**
+         * Get time to wait before the rate limited request is sent again.
+         *
+         * @param response the rate limited response.
+         * @return time to wait in nanoseconds.
+         * @throws RetryExhaustedException if a limit of the retry policy is exhausted.
+         */
+        long onRateLimited(RestResponse response) throws AirtableException {
+            RateController.this.onRateLimited();
+
+            final long wait = retryAfter(response.getHeader("Retry-After"));
+            return retry((wait >= 0) ? wait : jitter(MIN_DELAY), "Rate limit exceeded", null);
+        }
+
+        /**
+         * Get time to wait before a request failed by a transient error is sent again.
+         *
+         * @param reason description of the error.
+         * @param cause the error, <code>null</code> for a failed response.
+         * @return time to wait in nanoseconds.
+         * @throws RetryExhaustedException if a limit of the retry policy is exhausted.
+         */
+        long onTransientFailure(String reason, Throwable cause) throws AirtableException {
+            return retry(jitter(MIN_TRANSIENT_DELAY), reason, cause);
+        }
+
+        /**
+         * @return time in nanoseconds when the first attempt was started.
+         */
+        long getStarted() {
+            return started;
+        }
+
+        /**
+         * @return number of attempts sent, including the first one.
+         */
+        int getAttempts() {
+            return attempts;
+        }
+
+        /**
+         * Next wait of exponential backoff with decorrelated jitter.
+         *
+         * @param min minimum wait in nanoseconds.
+         * @return time to wait in nanoseconds.
+         */
+        private long jitter(long min) {
+            delay = Math.min(MAX_DELAY, ThreadLocalRandom.current().nextLong(min, Math.max(min, delay) * 3 + 1));
+            return delay;
+        }
+
+        /**
+         * Take a retry within the limits of the retry policy.
+         *
+         * @param wait time to wait in nanoseconds.
+         * @param reason description of the failure.
+         * @param cause the error, <code>null</code> for a failed response.
+         * @return time to wait in nanoseconds.
+         * @throws RetryExhaustedException if a limit of the retry policy is exhausted.
+         */
+        private long retry(long wait, String reason, Throwable cause) throws RetryExhaustedException {
+            if (attempts >= policy.getMaxAttempts()) {
+                throw new RetryExhaustedException(reason + ", maximum attempts reached", attempts, cause);
+            }
+            if (clock.getAsLong() + wait - deadline > 0) {
+                throw new RetryExhaustedException(reason + ", maximum retry time reached", attempts, cause);
+            }
+            if (!policy.tryRetry()) {
+                throw new RetryExhaustedException(reason + ", retry budget exhausted", attempts, cause);
+            }
+            attempts++;
+            return wait;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket to pace the requests to a base.
+ *
+ * The API of Airtable is limited to 5 requests per second and base. Every request
+ * takes one token of the bucket. Tokens are refilled at the configured rate up to
+ * the burst size. If no token is available, the caller waits until its token is
+ * refilled. Callers are served in order of their arrival, also across threads.
+ *
+ * @since 0.3
+ */
+public class RateLimiter {
+
+    private final LongSupplier clock;
+
+    private final double burst;
+
+    private double permitsPerSecond;
+
+    private double tokens;
+
+    private long lastRefill;
+
+    /**
+     * Create rate limiter without bursts.
+     *
+     * @param permitsPerSecond number of requests per second.
+     */
+    public RateLimiter(double permitsPerSecond) {
+        this(permitsPerSecond, 1);
+    }
+
+    /**
+     * Create rate limiter.
+     *
+     * @param permitsPerSecond number of requests per second.
+     * @param burst number of requests which could be sent at once after idle time.
+     */
+    public RateLimiter(double permitsPerSecond, double burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    /**
+     *
+     * @param permitsPerSecond number of requests per second.
+     * @param burst number of requests which could be sent at once after idle time.
+     * @param clock time source in nanoseconds.
+     */
+    RateLimiter(double permitsPerSecond, double burst, LongSupplier clock) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive but was " + permitsPerSecond);
+        }
+        if (burst < 1) {
+            throw new IllegalArgumentException("burst must be at least 1 but was " + burst);
+        }
+
+        this.clock = clock;
+        this.burst = burst;
+        this.permitsPerSecond = permitsPerSecond;
+        this.tokens = burst;
+        this.lastRefill = clock.getAsLong();
+    }
+
+    /**
+     * Take a token, waiting until it is available.
+     *
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    public void acquire() throws InterruptedException {
+        final long wait = reserve();
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+
+    /**
+     * Take a token without waiting.
+     *
+     * The token may be taken in advance. The caller has to wait the returned time
+     * before sending its request.
+     *
+     * @return time to wait in nanoseconds, 0 if the token is available now.
+     */
+    public synchronized long reserve() {
+        refill();
+
+        tokens -= 1;
+        if (tokens >= 0) {
+            return 0;
+        }
+        return (long) (-tokens / permitsPerSecond * TimeUnit.SECONDS.toNanos(1));
+    }
+
+    /**
+     * @return current number of requests per second.
+     */
+    public synchronized double getRate() {
+        return permitsPerSecond;
+    }
+
+    /**
+     * Change number of requests per second.
+     *
+     * @param permitsPerSecond number of requests per second.
+     */
+    public synchronized void setRate(double permitsPerSecond) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive but was " + permitsPerSecond);
+        }
+        refill();
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+    /**
+     * Add the tokens accumulated since last refill.
+     */
+    private void refill() {
+        final long now = clock.getAsLong();
+        final double elapsed = (double) (now - lastRefill) / TimeUnit.SECONDS.toNanos(1);
+
+        tokens = Math.min(burst, tokens + elapsed * permitsPerSecond);
+        lastRefill = now;
+    }
+}
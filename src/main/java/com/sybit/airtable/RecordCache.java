@@ -0,0 +1,197 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Size-bounded cache of records by id with time to live and LRU eviction.
+ *
+ * The cache is used by <code>Table.find(id)</code> if set by
+ * <code>Table.setCache(RecordCache)</code>. Records updated or deleted by the
+ * same <code>Table</code> are removed from the cache. The table keeps copies
+ * of the records in the cache and returns a new copy on each hit, so records
+ * returned by <code>find</code> can be modified. Records returned by
+ * <code>get</code> are the cached instances and should not be modified.
+ *
+ * @param <T> class of cached records.
+ * @since 0.3
+ */
+public class RecordCache<T> {
+
+    private final int maxSize;
+
+    private final long ttl;
+
+    private final LongSupplier clock;
+
+    private final LinkedHashMap<String, CachedRecord<T>> entries;
+
+    private long generation;
+
+    private long hits;
+
+    private long misses;
+
+    private long evictions;
+
+    /**
+     * Create cache.
+     *
+     * @param maxSize maximum number of cached records.
+     * @param ttl time to live of a cached record.
+     * @param unit unit of <code>ttl</code>.
+     */
+    public RecordCache(int maxSize, long ttl, TimeUnit unit) {
+        this(maxSize, ttl, unit, System::nanoTime);
+    }
+
+    /**
+     * Create cache with given clock.
+     *
+     * @param maxSize maximum number of cached records.
+     * @param ttl time to live of a cached record.
+     * @param unit unit of <code>ttl</code>.
+     * @param clock clock in nanoseconds.
+     */
+    RecordCache(int maxSize, long ttl, TimeUnit unit, LongSupplier clock) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive but was " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.ttl = unit.toNanos(ttl);
+        this.clock = clock;
+        this.entries = new LinkedHashMap<String, CachedRecord<T>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedRecord<T>> eldest) {
+                if (size() > RecordCache.this.maxSize) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Get cached record.
+     *
+     * @param id id of record.
+     * @return the record or <code>null</code> if not cached or expired.
+     */
+    public synchronized T get(String id) {
+        final CachedRecord<T> entry = entries.get(id);
+        if (entry != null && clock.getAsLong() - entry.expiresAt < 0) {
+            hits++;
+            return entry.value;
+        }
+        if (entry != null) {
+            entries.remove(id);
+        }
+        misses++;
+        return null;
+    }
+
+    /**
+     * Get current generation of the cache, which changes on each invalidation.
+     * Read it before loading a record to be passed to <code>put</code>.
+     *
+     * @return the generation.
+     */
+    synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Add record, unless the cache was invalidated since the record was loaded.
+     *
+     * @param id id of record.
+     * @param value the record.
+     * @param loadedAt generation of the cache before the record was loaded.
+     */
+    synchronized void put(String id, T value, long loadedAt) {
+        if (value != null && loadedAt == generation) {
+            entries.put(id, new CachedRecord<>(value, clock.getAsLong() + ttl));
+        }
+    }
+
+    /**
+     * Remove record.
+     *
+     * @param id id of record.
+     */
+    public synchronized void invalidate(String id) {
+        generation++;
+        entries.remove(id);
+    }
+
+    /**
+     * Remove all records.
+     */
+    public synchronized void invalidateAll() {
+        generation++;
+        entries.clear();
+    }
+
+    /**
+     * Get number of cached records, including expired records not yet removed.
+     *
+     * @return number of records.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Remove expired records.
+     */
+    public synchronized void cleanUp() {
+        final long now = clock.getAsLong();
+        for (Iterator<CachedRecord<T>> it = entries.values().iterator(); it.hasNext(); ) {
+            if (now - it.next().expiresAt >= 0) {
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * @return number of lookups answered by the cache.
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return number of lookups not answered by the cache.
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return number of records removed to stay within the maximum size.
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    private static final class CachedRecord<T> {
+
+        private final T value;
+
+        private final long expiresAt;
+
+        CachedRecord(T value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
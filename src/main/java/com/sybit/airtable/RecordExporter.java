@@ -0,0 +1,186 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.sybit.airtable.exception.AirtableException;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Writes pages of records as JSON objects of the API to a stream.
+ *
+ * The records are written as they were received, so numbers keep their
+ * exact representation. Each page is written and flushed as soon as it is
+ * passed, so only the current page is held in memory. The stream is not
+ * closed.
+ *
+ * @since 0.3
+ */
+class RecordExporter {
+
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_FIELDS = "fields";
+    private static final String FIELD_CREATED_TIME = "createdTime";
+
+    private final ExportFormat format;
+
+    private final Writer writer;
+
+    private final List<String> columns;
+
+    private boolean headerWritten;
+
+    private long count;
+
+    /**
+     *
+     * @param format format of the export.
+     * @param fields fields of the CSV columns, required for CSV.
+     * @param out target of the export.
+     * @throws IllegalArgumentException if the format is CSV and no fields are given.
+     */
+    RecordExporter(ExportFormat format, String[] fields, OutputStream out) {
+        if (format == ExportFormat.CSV && (fields == null || fields.length == 0)) {
+            throw new IllegalArgumentException("CSV export requires the fields of the query");
+        }
+        this.format = format;
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 65536);
+        this.columns = (fields != null) ? Arrays.asList(fields) : null;
+    }
+
+    /**
+     * Read a page of the API without converting the values of the records.
+     *
+     * @param body body of response.
+     * @return the records as JSON objects and the offset of the next page.
+     * @throws AirtableException if the body is not a page of records.
+     */
+    static RecordPage<JsonObject> readPage(InputStream body) throws AirtableException {
+        try (Reader reader = new InputStreamReader(body, StandardCharsets.UTF_8)) {
+            final JsonObject page = new JsonParser().parse(reader).getAsJsonObject();
+            final List<JsonObject> records = new ArrayList<>();
+            final JsonElement list = page.get("records");
+            if (list != null && list.isJsonArray()) {
+                for (JsonElement record : list.getAsJsonArray()) {
+                    records.add(record.getAsJsonObject());
+                }
+            }
+            final JsonElement offset = page.get("offset");
+            return new RecordPage<>(records, (offset != null && !offset.isJsonNull()) ? offset.getAsString() : null);
+        } catch (IOException | JsonParseException | IllegalStateException e) {
+            throw new AirtableException(e);
+        }
+    }
+
+    /**
+     * Write one page of records.
+     *
+     * @param records records as JSON objects of the API.
+     * @throws IOException if writing failed.
+     */
+    void write(List<JsonObject> records) throws IOException {
+        if (format == ExportFormat.CSV && !headerWritten) {
+            writeHeader();
+        }
+
+        for (JsonObject record : records) {
+            if (format == ExportFormat.CSV) {
+                writeCsv(record);
+            } else {
+                writer.write(record.toString());
+                writer.write('\n');
+            }
+            count++;
+        }
+        writer.flush();
+    }
+
+    /**
+     * Complete the export. A CSV export of no records consists of the header.
+     *
+     * @return number of records written.
+     * @throws IOException if writing failed.
+     */
+    long finish() throws IOException {
+        if (format == ExportFormat.CSV && !headerWritten) {
+            writeHeader();
+        }
+        writer.flush();
+        return count;
+    }
+
+    private void writeHeader() throws IOException {
+        writer.write(FIELD_ID);
+        writer.write(',');
+        writer.write(FIELD_CREATED_TIME);
+        for (String column : columns) {
+            writer.write(',');
+            writer.write(csvText(column));
+        }
+        writer.write("\r\n");
+        headerWritten = true;
+    }
+
+    private void writeCsv(JsonObject record) throws IOException {
+        writer.write(csvValue(record.get(FIELD_ID)));
+        writer.write(',');
+        writer.write(csvValue(record.get(FIELD_CREATED_TIME)));
+
+        final JsonElement values = record.get(FIELD_FIELDS);
+        final JsonObject fields = (values != null && values.isJsonObject()) ? values.getAsJsonObject() : null;
+        for (String column : columns) {
+            writer.write(',');
+            writer.write(csvValue((fields != null) ? fields.get(column) : null));
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * Format value as CSV. Strings, numbers and booleans are written as they
+     * were received, lists and objects as JSON.
+     *
+     * @param value value of the JSON object.
+     * @return the formatted value.
+     */
+    private static String csvValue(JsonElement value) {
+        if (value == null || value.isJsonNull()) {
+            return "";
+        }
+        return csvText(value.isJsonPrimitive() ? value.getAsString() : value.toString());
+    }
+
+    /**
+     * Quote text for CSV if necessary.
+     *
+     * @param text the text.
+     * @return the quoted text.
+     */
+    private static String csvText(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            if (c == ',' || c == '"' || c == '\r' || c == '\n') {
+                return '"' + text.replace("\"", "\"\"") + '"';
+            }
+        }
+        return text;
+    }
+}
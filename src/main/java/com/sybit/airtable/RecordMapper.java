@@ -0,0 +1,334 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import com.google.gson.annotations.SerializedName;
+import org.apache.commons.beanutils.BeanUtilsBean;
+import org.apache.commons.beanutils.ConvertUtilsBean;
+import org.apache.commons.beanutils.Converter;
+import org.apache.commons.beanutils.PropertyUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.lang.model.SourceVersion;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maps the keys of Airtable records to the properties of a class.
+ *
+ * The properties, <code>@SerializedName</code> annotations and converters of the
+ * class are inspected once when the mapper is created. The setter of a key is
+ * resolved on its first use and reused for all following records.
+ *
+ * @param <T> class representing a row of the table.
+ * @since 0.3
+ */
+class RecordMapper<T> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RecordMapper.class);
+
+    private final Class<T> type;
+
+    private final Constructor<T> constructor;
+
+    /**
+     * Field names by lower case value of their <code>@SerializedName</code>.
+     */
+    private final Map<String, String> serializedNames = new HashMap<>();
+
+    /**
+     * Readable and writable properties by name.
+     */
+    private final Map<String, PropertySetter> properties = new HashMap<>();
+
+    /**
+     * Getters of the readable and writable properties by name.
+     */
+    private final Map<String, MethodHandle> getters = new HashMap<>();
+
+    /**
+     * Resolved setters by key of record.
+     */
+    private final Map<String, PropertySetter> setters = new ConcurrentHashMap<>();
+
+    /**
+     *
+     * @param type class representing a row of the table.
+     */
+    RecordMapper(Class<T> type) {
+        this.type = type;
+        this.constructor = defaultConstructor(type);
+
+        for (final Field f : type.getDeclaredFields()) {
+            final SerializedName annotation = f.getAnnotation(SerializedName.class);
+            if (annotation != null) {
+                serializedNames.putIfAbsent(annotation.value().toLowerCase(Locale.ROOT), f.getName());
+            }
+        }
+
+        final ConvertUtilsBean convertUtils = BeanUtilsBean.getInstance().getConvertUtils();
+        final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        for (final PropertyDescriptor descriptor : PropertyUtils.getPropertyDescriptors(type)) {
+            final Method readMethod = PropertyUtils.getReadMethod(descriptor);
+            final Method writeMethod = PropertyUtils.getWriteMethod(descriptor);
+            if (readMethod == null || writeMethod == null) {
+                continue;
+            }
+
+            try {
+                final MethodHandle handle = lookup.unreflect(writeMethod)
+                        .asType(MethodType.methodType(void.class, Object.class, Object.class));
+                final Class<?> propertyType = descriptor.getPropertyType();
+                properties.put(descriptor.getName(),
+                        new PropertySetter(descriptor.getName(), propertyType, handle, convertUtils.lookup(propertyType)));
+                getters.put(descriptor.getName(), lookup.unreflect(readMethod)
+                        .asType(MethodType.methodType(Object.class, Object.class)));
+            } catch (IllegalAccessException e) {
+                LOG.debug("Property {} of {} is not accessible: {}", descriptor.getName(), type.getName(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Create new instance of the class.
+     *
+     * @return new instance.
+     * @throws InstantiationException
+     * @throws IllegalAccessException
+     * @throws InvocationTargetException
+     */
+    T newInstance() throws InstantiationException, IllegalAccessException, InvocationTargetException {
+        if (constructor == null) {
+            return type.newInstance();
+        }
+        return constructor.newInstance();
+    }
+
+    /**
+     * Copy record into a new instance of the class.
+     *
+     * All readable and writable properties are copied. Values of type
+     * <code>Date</code>, <code>List</code> and <code>Map</code> are copied
+     * as well, so the copy can be modified without changing the record.
+     *
+     * @param record the record.
+     * @return the copy.
+     * @throws InstantiationException
+     * @throws IllegalAccessException
+     * @throws InvocationTargetException
+     */
+    T copy(T record) throws InstantiationException, IllegalAccessException, InvocationTargetException {
+        final T copy = newInstance();
+        for (Map.Entry<String, MethodHandle> getter : getters.entrySet()) {
+            final Object value;
+            try {
+                value = getter.getValue().invokeExact((Object) record);
+            } catch (Throwable t) {
+                throw new InvocationTargetException(t);
+            }
+            properties.get(getter.getKey()).assign(copy, copyValue(value));
+        }
+        return copy;
+    }
+
+    /**
+     * Copy mutable value of a property.
+     *
+     * @param value the value.
+     * @return copy of a <code>Date</code>, <code>List</code> or <code>Map</code>, otherwise the value.
+     */
+    private static Object copyValue(Object value) {
+        if (value instanceof Date) {
+            return ((Date) value).clone();
+        }
+        if (value instanceof List) {
+            return new ArrayList<>((List<?>) value);
+        }
+        if (value instanceof Map) {
+            return new LinkedHashMap<>((Map<?, ?>) value);
+        }
+        return value;
+    }
+
+    /**
+     * Set the property of given key.
+     *
+     * @param bean The object upon which to perform the setting operation
+     * @param key The key of the record
+     * @param value The object representing the new value of field
+     * @throws InvocationTargetException
+     * @throws IllegalArgumentException when key cannot be matched to any field of bean
+     */
+    void setProperty(T bean, String key, Object value) throws InvocationTargetException, IllegalArgumentException {
+        setter(key).set(bean, value);
+    }
+
+    /**
+     * Get the setter of given key.
+     *
+     * @param key The key of the record
+     * @return setter of the property.
+     * @throws IllegalArgumentException when key cannot be matched to any field
+     */
+    PropertySetter setter(String key) throws IllegalArgumentException {
+        PropertySetter setter = setters.get(key);
+        if (setter == null) {
+            setter = resolve(key);
+            setters.put(key, setter);
+        }
+        return setter;
+    }
+
+    /**
+     * Find the property of given key.
+     *
+     * @param key The key of the record
+     * @return setter of the property.
+     * @throws IllegalArgumentException when key cannot be matched to any field
+     */
+    private PropertySetter resolve(String key) throws IllegalArgumentException {
+        String property = key2property(key);
+
+        final String fieldName = serializedNames.get(property.toLowerCase(Locale.ROOT));
+        if (fieldName != null) {
+            property = fieldName;
+        }
+
+        final PropertySetter setter = properties.get(property);
+        if (setter == null) {
+            if (fieldName == null && !SourceVersion.isName(property)) {
+                LOG.error(String.format("Key '%s' contains illegal characters for a java identifier, but no field with a matching @SerializedName is present for type %s.", property, this.type.getName()));
+            }
+
+            throw new IllegalArgumentException(this.type.getName() + " does not have a property corresponding to [" + property + "]");
+        }
+        return setter;
+    }
+
+    /**
+     * Convert AirTable ColumnName to Java PropertyName.
+     *
+     * @param key
+     * @return
+     */
+    static String key2property(final String key) {
+
+        if (key == null || key.isEmpty()) {
+            throw new IllegalArgumentException("Key was null or empty.");
+        }
+
+        String property = key.trim();
+        property = property.substring(0, 1).toLowerCase() + property.substring(1, property.length());
+
+        return property;
+    }
+
+    /**
+     * Get public no-arg constructor of class.
+     *
+     * @param type the class.
+     * @return constructor or <code>null</code> if not available.
+     */
+    private static <T> Constructor<T> defaultConstructor(Class<T> type) {
+        try {
+            return type.getConstructor();
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Setter of a property including the conversion of values.
+     */
+    static class PropertySetter {
+
+        private final String name;
+
+        private final Class<?> type;
+
+        private final MethodHandle handle;
+
+        private final Converter converter;
+
+        PropertySetter(String name, Class<?> type, MethodHandle handle, Converter converter) {
+            this.name = name;
+            this.type = type;
+            this.handle = handle;
+            this.converter = converter;
+        }
+
+        /**
+         * @return type of the property.
+         */
+        Class<?> getType() {
+            return type;
+        }
+
+        /**
+         * Convert value to type of the property and set it.
+         *
+         * The value is converted by the converter registered at <code>ConvertUtils</code>
+         * for the type of the property, like <code>BeanUtils.setProperty</code> does.
+         *
+         * @param bean The object upon which to perform the setting operation
+         * @param value The object representing the new value of field
+         * @throws InvocationTargetException if the setter throws an exception.
+         * @throws IllegalArgumentException if the value does not match the type of the property.
+         */
+        void set(Object bean, Object value) throws InvocationTargetException, IllegalArgumentException {
+            final Object converted = (converter != null) ? converter.convert(type, value) : value;
+
+            if (converted == null ? type.isPrimitive() : !isAssignable(converted)) {
+                throw new IllegalArgumentException("Cannot set property [" + name + "] of type "
+                        + type.getName() + " to value " + converted);
+            }
+
+            try {
+                handle.invokeExact(bean, converted);
+            } catch (Throwable t) {
+                throw new InvocationTargetException(t);
+            }
+        }
+
+        /**
+         * Set value without conversion.
+         *
+         * @param bean The object upon which to perform the setting operation
+         * @param value The value of the type of the property
+         * @throws InvocationTargetException if the setter throws an exception.
+         */
+        void assign(Object bean, Object value) throws InvocationTargetException {
+            try {
+                handle.invokeExact(bean, value);
+            } catch (Throwable t) {
+                throw new InvocationTargetException(t);
+            }
+        }
+
+        private boolean isAssignable(Object value) {
+            if (type.isPrimitive()) {
+                return MethodType.methodType(type).wrap().returnType().isInstance(value);
+            }
+            return type.isInstance(value);
+        }
+    }
+}
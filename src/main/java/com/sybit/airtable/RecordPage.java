@@ -0,0 +1,46 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import java.util.List;
+
+/**
+ * One page of records returned by a select.
+ *
+ * @param <T> class representing a row of the table.
+ * @since 0.3
+ */
+class RecordPage<T> {
+
+    private final List<T> records;
+
+    private final String offset;
+
+    /**
+     *
+     * @param records records of this page.
+     * @param offset offset of the next page, <code>null</code> if this is the last page.
+     */
+    RecordPage(List<T> records, String offset) {
+        this.records = records;
+        this.offset = offset;
+    }
+
+    /**
+     * @return records of this page.
+     */
+    List<T> getRecords() {
+        return records;
+    }
+
+    /**
+     * @return offset of the next page or <code>null</code> if this is the last page.
+     */
+    String getOffset() {
+        return offset;
+    }
+}
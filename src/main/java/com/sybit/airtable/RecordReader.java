@@ -0,0 +1,153 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Decodes Airtable responses directly into objects of the row class.
+ *
+ * The response is read as a stream of JSON tokens. The values of a record are
+ * set as soon as they are read, without building the intermediate
+ * <code>Records</code> and <code>Map</code> objects first. Nested values like
+ * attachments are read in the same form Gson uses for <code>Map</code> values, so
+ * the converters registered at <code>ConvertUtils</code> apply unchanged.
+ *
+ * @param <T> class representing a row of the table.
+ * @since 0.3
+ */
+class RecordReader<T> {
+
+    private static final TypeAdapter<Object> VALUE_ADAPTER = new Gson().getAdapter(Object.class);
+
+    private static final String FIELD_RECORDS = "records";
+    private static final String FIELD_OFFSET = "offset";
+    private static final String FIELD_FIELDS = "fields";
+
+    private final RecordMapper<T> mapper;
+
+    /**
+     *
+     * @param mapper mapper of the row class.
+     */
+    RecordReader(RecordMapper<T> mapper) {
+        this.mapper = mapper;
+    }
+
+    /**
+     * Read a page of records, e.g. <code>{"records":[...],"offset":"..."}</code>.
+     *
+     * @param in response body.
+     * @return page of decoded records.
+     * @throws IOException if the response could not be read.
+     * @throws InvocationTargetException
+     * @throws IllegalAccessException
+     * @throws InstantiationException
+     */
+    RecordPage<T> readPage(InputStream in) throws IOException, InvocationTargetException, IllegalAccessException, InstantiationException {
+        try (JsonReader reader = new JsonReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            final List<T> records = new ArrayList<>();
+            String offset = null;
+
+            reader.beginObject();
+            while (reader.hasNext()) {
+                final String name = reader.nextName();
+                if (FIELD_RECORDS.equals(name) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        records.add(readRecord(reader));
+                    }
+                    reader.endArray();
+                } else if (FIELD_OFFSET.equals(name) && reader.peek() == JsonToken.STRING) {
+                    offset = reader.nextString();
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+
+            return new RecordPage<>(records, offset);
+        }
+    }
+
+    /**
+     * Read a single record, e.g. <code>{"id":"...","fields":{...},"createdTime":"..."}</code>.
+     *
+     * @param in response body.
+     * @return decoded record.
+     * @throws IOException if the response could not be read.
+     * @throws InvocationTargetException
+     * @throws IllegalAccessException
+     * @throws InstantiationException
+     */
+    T readRecord(InputStream in) throws IOException, InvocationTargetException, IllegalAccessException, InstantiationException {
+        try (JsonReader reader = new JsonReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            return readRecord(reader);
+        }
+    }
+
+    /**
+     * Read the record at the current position of <code>reader</code>.
+     *
+     * @param reader reader positioned at the start of a record.
+     * @return decoded record.
+     * @throws IOException if the response could not be read.
+     * @throws InvocationTargetException
+     * @throws IllegalAccessException
+     * @throws InstantiationException
+     */
+    private T readRecord(JsonReader reader) throws IOException, InvocationTargetException, IllegalAccessException, InstantiationException {
+        final T item = mapper.newInstance();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            final String name = reader.nextName();
+            if (FIELD_FIELDS.equals(name) && reader.peek() == JsonToken.BEGIN_OBJECT) {
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    readProperty(reader, item, reader.nextName());
+                }
+                reader.endObject();
+            } else {
+                readProperty(reader, item, name);
+            }
+        }
+        reader.endObject();
+
+        return item;
+    }
+
+    /**
+     * Read the value at the current position of <code>reader</code> and set it.
+     *
+     * @param reader reader positioned at the value.
+     * @param item record to set the value.
+     * @param key key of the value.
+     * @throws IOException if the response could not be read.
+     * @throws InvocationTargetException
+     */
+    private void readProperty(JsonReader reader, T item, String key) throws IOException, InvocationTargetException {
+        final RecordMapper.PropertySetter setter = mapper.setter(key);
+        try {
+            setter.set(item, VALUE_ADAPTER.read(reader));
+        } catch (JsonParseException e) {
+            throw new IOException(e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+/**
+ * Interceptor of the HTTP requests sent by <code>Table</code>.
+ *
+ * Interceptors are added by <code>Configuration.addInterceptor(RequestInterceptor)</code>
+ * and called for each attempt, including retries. They are called before the
+ * request in the order they were added and after the response in reverse
+ * order. The methods are called by the threads sending requests, so
+ * implementations must be thread-safe and fast. Exceptions thrown by an
+ * interceptor are logged and do not affect the request. All methods do
+ * nothing by default.
+ *
+ * @see SlowRequestLogger
+ * @since 0.3
+ */
+public interface RequestInterceptor {
+
+    /**
+     * Called before the request is sent.
+     *
+     * @param trace the request, without response.
+     */
+    default void beforeRequest(RequestTrace trace) {
+    }
+
+    /**
+     * Called after the response was read or the request failed.
+     *
+     * @param trace the request with status, headers and timings of the
+     *              response or with the error of the failed request.
+     */
+    default void afterResponse(RequestTrace trace) {
+    }
+}
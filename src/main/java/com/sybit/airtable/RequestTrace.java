@@ -0,0 +1,204 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * One attempt to send a request of a <code>Table</code>, as seen by a
+ * <code>RequestInterceptor</code>.
+ *
+ * The request is described before it is sent. Status, headers and timings of
+ * the response are set when <code>RequestInterceptor.afterResponse</code> is
+ * called. Times are in nanoseconds; timings not measured are -1, which is the
+ * case for connect, first byte and download of asynchronous requests.
+ *
+ * @since 0.3
+ */
+public final class RequestTrace {
+
+    private final String table;
+
+    private final String operation;
+
+    private final String method;
+
+    private final String url;
+
+    private final String queryString;
+
+    private final int bodySize;
+
+    private int status;
+
+    private Map<String, String> headers = Collections.emptyMap();
+
+    private int responseSize;
+
+    private long connectTime = -1;
+
+    private long timeToFirstByte = -1;
+
+    private long downloadTime = -1;
+
+    private long totalTime = -1;
+
+    private Throwable error;
+
+    /**
+     * Describe request before it is sent.
+     *
+     * @param table name of table.
+     * @param request the request.
+     */
+    RequestTrace(String table, RestRequest request) {
+        this.table = table;
+        this.operation = request.getOperation();
+        this.method = request.getMethod().name();
+
+        final String fullUrl = request.getUrl();
+        final int query = fullUrl.indexOf('?');
+        this.url = (query < 0) ? fullUrl : fullUrl.substring(0, query);
+        this.queryString = (query < 0) ? null : fullUrl.substring(query + 1);
+        this.bodySize = (request.getBody() == null) ? 0 : request.getBody().getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    /**
+     * Record the response of the request.
+     *
+     * @param response the response.
+     * @param totalTime time in nanoseconds from sending the request until the response was read.
+     */
+    void response(RestResponse response, long totalTime) {
+        this.status = response.getStatus();
+        this.headers = response.getHeaders();
+        this.responseSize = response.getBodyLength();
+        this.connectTime = response.getConnectTime();
+        this.timeToFirstByte = response.getTimeToFirstByte();
+        this.downloadTime = response.getDownloadTime();
+        this.totalTime = totalTime;
+    }
+
+    /**
+     * Record the failure of the request.
+     *
+     * @param error cause of the failure.
+     * @param totalTime time in nanoseconds from sending the request until it failed.
+     */
+    void failure(Throwable error, long totalTime) {
+        this.error = error;
+        this.totalTime = totalTime;
+    }
+
+    /**
+     * @return name of table.
+     */
+    public String getTable() {
+        return table;
+    }
+
+    /**
+     * @return name of operation, e.g. <code>select</code> or <code>create</code>.
+     */
+    public String getOperation() {
+        return operation;
+    }
+
+    /**
+     * @return HTTP method.
+     */
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * @return URL without query string.
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * @return encoded query string or <code>null</code> if the request has none.
+     */
+    public String getQueryString() {
+        return queryString;
+    }
+
+    /**
+     * @return size of the body of the request in bytes.
+     */
+    public int getBodySize() {
+        return bodySize;
+    }
+
+    /**
+     * @return HTTP status code, 0 if the request failed without response or was not answered yet.
+     */
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * @param name name of header, ignoring case.
+     * @return value of header of the response or <code>null</code> if not present.
+     */
+    public String getHeader(String name) {
+        return headers.get(name);
+    }
+
+    /**
+     * @return headers of the response by name.
+     */
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * @return size of the body of the response in bytes.
+     */
+    public int getResponseSize() {
+        return responseSize;
+    }
+
+    /**
+     * @return time to open the connection, 0 if a pooled connection was reused.
+     */
+    public long getConnectTime() {
+        return connectTime;
+    }
+
+    /**
+     * @return time from sending the request until the headers of the response were read.
+     */
+    public long getTimeToFirstByte() {
+        return timeToFirstByte;
+    }
+
+    /**
+     * @return time to read the body of the response.
+     */
+    public long getDownloadTime() {
+        return downloadTime;
+    }
+
+    /**
+     * @return time from sending the request until the response was read or the request failed.
+     */
+    public long getTotalTime() {
+        return totalTime;
+    }
+
+    /**
+     * @return cause of the failure or <code>null</code> if a response was received.
+     */
+    public Throwable getError() {
+        return error;
+    }
+}
@@ -0,0 +1,431 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import org.apache.http.Header;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpException;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpDelete;
+import org.apache.http.client.methods.HttpEntityEnclosingRequestBase;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPatch;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpRequestExecutor;
+import org.apache.http.util.EntityUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * HTTP client of an <code>Airtable</code> instance.
+ *
+ * Each client owns its pool of connections, so instances configured with
+ * different API keys, timeouts or proxies do not influence each other.
+ *
+ * Asynchronous requests are sent by a non-blocking client with a separate
+ * pool, which is started on the first asynchronous request.
+ *
+ * Synchronous responses carry the time to open the connection, the time to
+ * the first byte and the time to download the body.
+ *
+ * @since 0.3
+ */
+class RestClient implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RestClient.class);
+
+    private static final int DEFAULT_CONNECT_TIMEOUT = 10000;
+    private static final int DEFAULT_SOCKET_TIMEOUT = 60000;
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    private static final String CONNECT_TIME = "airtable.connectTime";
+    private static final String REQUEST_SENT = "airtable.requestSent";
+    private static final String HEADERS_RECEIVED = "airtable.headersReceived";
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+
+    private final CloseableHttpClient httpClient;
+
+    private final int connectTimeout;
+
+    private final int socketTimeout;
+
+    private final Configuration config;
+
+    private volatile RequestConfig requestConfig;
+
+    private CloseableHttpAsyncClient asyncClient;
+
+    private boolean closed;
+
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Create client by given configuration.
+     *
+     * @param config configuration of pool, timeouts and proxy.
+     */
+    RestClient(Configuration config) {
+        this.config = config;
+        if (config.getTimeout() != null) {
+            this.connectTimeout = config.getTimeout().intValue();
+            this.socketTimeout = config.getTimeout().intValue();
+        } else {
+            this.connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+            this.socketTimeout = DEFAULT_SOCKET_TIMEOUT;
+        }
+
+        this.connectionManager = new PoolingHttpClientConnectionManager() {
+            @Override
+            public void connect(HttpClientConnection managedConn, HttpRoute route, int connectTimeout,
+                                HttpContext context) throws IOException {
+                final long start = System.nanoTime();
+                super.connect(managedConn, route, connectTimeout, context);
+                context.setAttribute(CONNECT_TIME, System.nanoTime() - start);
+            }
+        };
+        this.connectionManager.setMaxTotal(config.getMaxConnections());
+        this.connectionManager.setDefaultMaxPerRoute(config.getMaxConnectionsPerRoute());
+
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setRequestExecutor(new TimingRequestExecutor())
+                .setKeepAliveStrategy(keepAliveStrategy(config.getKeepAlive()))
+                .evictExpiredConnections()
+                .evictIdleConnections(config.getIdleTimeout(), TimeUnit.MILLISECONDS)
+                .build();
+
+        setProxy(config.getProxy());
+    }
+
+    /**
+     * Keep connections alive as long as announced by the server, but not longer
+     * than <code>keepAlive</code>.
+     *
+     * @param keepAlive maximum time to keep an idle connection in milliseconds.
+     * @return strategy
+     */
+    private static ConnectionKeepAliveStrategy keepAliveStrategy(long keepAlive) {
+        return (response, context) -> {
+            final long announced = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return (announced > 0) ? Math.min(announced, keepAlive) : keepAlive;
+        };
+    }
+
+    /**
+     * Set proxy of all following requests.
+     *
+     * @param proxy proxy or <code>null</code> to connect directly.
+     */
+    final void setProxy(String proxy) {
+        this.requestConfig = RequestConfig.custom()
+                .setConnectTimeout(connectTimeout)
+                .setSocketTimeout(socketTimeout)
+                .setProxy((proxy == null) ? null : HttpHost.create(proxy))
+                .build();
+    }
+
+    /**
+     * Send request and read the response.
+     *
+     * @param request the request.
+     * @return the response.
+     * @throws IOException if the request failed.
+     */
+    RestResponse execute(RestRequest request) throws IOException {
+        final HttpRequestBase httpRequest = toHttpRequest(request);
+        final HttpClientContext context = HttpClientContext.create();
+
+        try (CloseableHttpResponse response = httpClient.execute(httpRequest, context)) {
+            final long received = System.nanoTime();
+            final RestResponse restResponse = toRestResponse(response);
+            final long downloaded = System.nanoTime();
+
+            final Long connectTime = context.getAttribute(CONNECT_TIME, Long.class);
+            final Long sent = context.getAttribute(REQUEST_SENT, Long.class);
+            final Long headers = context.getAttribute(HEADERS_RECEIVED, Long.class);
+            return restResponse.timings((connectTime != null) ? connectTime : 0,
+                    (sent != null && headers != null) ? headers - sent : -1, downloaded - received);
+        }
+    }
+
+    /**
+     * Executor of requests recording when the request was sent and when the
+     * headers of the response were received.
+     */
+    private static final class TimingRequestExecutor extends HttpRequestExecutor {
+
+        @Override
+        protected HttpResponse doSendRequest(HttpRequest request, HttpClientConnection conn, HttpContext context)
+                throws IOException, HttpException {
+            final HttpResponse response = super.doSendRequest(request, conn, context);
+            context.setAttribute(REQUEST_SENT, System.nanoTime());
+            return response;
+        }
+
+        @Override
+        protected HttpResponse doReceiveResponse(HttpRequest request, HttpClientConnection conn, HttpContext context)
+                throws IOException, HttpException {
+            final HttpResponse response = super.doReceiveResponse(request, conn, context);
+            context.setAttribute(HEADERS_RECEIVED, System.nanoTime());
+            return response;
+        }
+    }
+
+    /**
+     * Send request without blocking the calling thread.
+     *
+     * @param request the request.
+     * @param delay time in nanoseconds to wait before the request is sent.
+     * @return the response, completed exceptionally with <code>IOException</code> if the request failed.
+     */
+    CompletableFuture<RestResponse> executeAsync(RestRequest request, long delay) {
+        if (delay > 0) {
+            final CompletableFuture<RestResponse> result = new CompletableFuture<>();
+            try {
+                scheduler().schedule(() -> executeAsync(request, 0).whenComplete((response, error) -> {
+                    if (error != null) {
+                        result.completeExceptionally(error);
+                    } else {
+                        result.complete(response);
+                    }
+                }), delay, TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                result.completeExceptionally(new IOException("HTTP client is closed", e));
+            }
+            return result;
+        }
+
+        final CompletableFuture<RestResponse> result = new CompletableFuture<>();
+        try {
+            asyncClient().execute(toHttpRequest(request), new FutureCallback<HttpResponse>() {
+                @Override
+                public void completed(HttpResponse response) {
+                    try {
+                        result.complete(toRestResponse(response));
+                    } catch (IOException e) {
+                        result.completeExceptionally(e);
+                    }
+                }
+
+                @Override
+                public void failed(Exception e) {
+                    result.completeExceptionally(e);
+                }
+
+                @Override
+                public void cancelled() {
+                    result.cancel(false);
+                }
+            });
+        } catch (IOException | IllegalStateException e) {
+            result.completeExceptionally(e);
+        }
+
+        return result;
+    }
+
+    /**
+     * Get the executor of the responses of asynchronous requests, so they are
+     * not handled by the I/O threads of the non-blocking client.
+     *
+     * @return the executor of the configuration or <code>ForkJoinPool.commonPool()</code>.
+     */
+    Executor asyncExecutor() {
+        final Executor executor = config.getAsyncExecutor();
+        return (executor != null) ? executor : ForkJoinPool.commonPool();
+    }
+
+    /**
+     * Read status, headers and body of response.
+     *
+     * @param response response of HttpClient.
+     * @return the response.
+     * @throws IOException if the body could not be read.
+     */
+    private static RestResponse toRestResponse(HttpResponse response) throws IOException {
+        final Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (Header header : response.getAllHeaders()) {
+            headers.putIfAbsent(header.getName(), header.getValue());
+        }
+
+        final HttpEntity entity = response.getEntity();
+        final byte[] body = (entity == null) ? new byte[0] : EntityUtils.toByteArray(entity);
+
+        return new RestResponse(response.getStatusLine().getStatusCode(), headers, body);
+    }
+
+    /**
+     * Get the non-blocking client, which is started on first use.
+     *
+     * @return the started client.
+     * @throws IOException if the I/O reactor could not be created.
+     */
+    private synchronized CloseableHttpAsyncClient asyncClient() throws IOException {
+        if (closed) {
+            throw new IOException("HTTP client is closed");
+        }
+        if (asyncClient == null) {
+            final IOReactorConfig reactorConfig = IOReactorConfig.custom()
+                    .setConnectTimeout(connectTimeout)
+                    .setSoTimeout(socketTimeout)
+                    .build();
+            final PoolingNHttpClientConnectionManager asyncConnectionManager =
+                    new PoolingNHttpClientConnectionManager(new DefaultConnectingIOReactor(reactorConfig, RestClient::daemonThread));
+            asyncConnectionManager.setMaxTotal(config.getMaxConnections());
+            asyncConnectionManager.setDefaultMaxPerRoute(config.getMaxConnectionsPerRoute());
+
+            asyncClient = HttpAsyncClients.custom()
+                    .setConnectionManager(asyncConnectionManager)
+                    .setKeepAliveStrategy(keepAliveStrategy(config.getKeepAlive()))
+                    .setThreadFactory(RestClient::daemonThread)
+                    .build();
+            asyncClient.start();
+
+            final long idleTimeout = config.getIdleTimeout();
+            scheduler().scheduleWithFixedDelay(() -> {
+                asyncConnectionManager.closeExpiredConnections();
+                asyncConnectionManager.closeIdleConnections(idleTimeout, TimeUnit.MILLISECONDS);
+            }, idleTimeout, idleTimeout, TimeUnit.MILLISECONDS);
+        }
+
+        return asyncClient;
+    }
+
+    /**
+     * Get the scheduler of delayed requests, which is created on first use.
+     *
+     * @return the scheduler.
+     */
+    private synchronized ScheduledExecutorService scheduler() {
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(RestClient::daemonThread);
+        }
+
+        return scheduler;
+    }
+
+    /**
+     * Convert request to request of HttpClient.
+     *
+     * @param request the request.
+     * @return the request of HttpClient.
+     * @throws IOException if the URL is invalid.
+     */
+    private HttpRequestBase toHttpRequest(RestRequest request) throws IOException {
+        final URI uri;
+        try {
+            uri = request.toUri();
+        } catch (URISyntaxException e) {
+            throw new IOException("Invalid URL: " + request.getUrl(), e);
+        }
+
+        final HttpRequestBase httpRequest;
+        switch (request.getMethod()) {
+            case POST:
+                httpRequest = new HttpPost(uri);
+                break;
+            case PATCH:
+                httpRequest = new HttpPatch(uri);
+                break;
+            case DELETE:
+                httpRequest = new HttpDelete(uri);
+                break;
+            default:
+                httpRequest = new HttpGet(uri);
+        }
+
+        httpRequest.setConfig(requestConfig);
+        for (Map.Entry<String, String> header : request.getHeaders().entrySet()) {
+            httpRequest.addHeader(header.getKey(), header.getValue());
+        }
+        if (request.getBody() != null && httpRequest instanceof HttpEntityEnclosingRequestBase) {
+            ((HttpEntityEnclosingRequestBase) httpRequest).setEntity(new StringEntity(request.getBody(), ContentType.APPLICATION_JSON));
+        }
+
+        return httpRequest;
+    }
+
+    /**
+     * Create daemon thread, so an unclosed client does not keep the JVM alive.
+     *
+     * @param runnable task of thread.
+     * @return the thread.
+     */
+    private static Thread daemonThread(Runnable runnable) {
+        final Thread thread = new Thread(runnable, "airtable-" + THREAD_COUNT.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * @return statistics of the connection pool.
+     */
+    PoolStats getPoolStats() {
+        return connectionManager.getTotalStats();
+    }
+
+    /**
+     * Close all connections of the pool.
+     */
+    @Override
+    public void close() {
+        try {
+            httpClient.close();
+            synchronized (this) {
+                closed = true;
+                if (asyncClient != null) {
+                    asyncClient.close();
+                }
+                if (scheduler != null) {
+                    scheduler.shutdownNow();
+                }
+            }
+        } catch (IOException e) {
+            LOG.warn("Closing HTTP client failed: {}", e.getMessage());
+        }
+    }
+}
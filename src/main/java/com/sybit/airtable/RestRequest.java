@@ -0,0 +1,165 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * HTTP request to the REST API of Airtable.
+ *
+ * @since 0.3
+ */
+class RestRequest {
+
+    /**
+     * HTTP methods used by the API.
+     */
+    enum Method {GET, POST, PATCH, DELETE}
+
+    private final Method method;
+
+    private final StringBuilder url;
+
+    private final Map<String, String> headers = new LinkedHashMap<>();
+
+    private String body;
+
+    private String operation;
+
+    private String offset;
+
+    /**
+     *
+     * @param method HTTP method.
+     * @param url URL without query string.
+     */
+    RestRequest(Method method, String url) {
+        this.method = method;
+        this.url = new StringBuilder(url);
+    }
+
+    /**
+     * Set header.
+     *
+     * @param name name of header.
+     * @param value value of header.
+     * @return this request.
+     */
+    RestRequest header(String name, String value) {
+        headers.put(name, value);
+        return this;
+    }
+
+    /**
+     * Append parameter to query string.
+     *
+     * @param name name of parameter.
+     * @param value value of parameter.
+     * @return this request.
+     */
+    RestRequest queryString(String name, Object value) {
+        url.append(url.indexOf("?") < 0 ? '?' : '&');
+        try {
+            url.append(URLEncoder.encode(name, StandardCharsets.UTF_8.name()))
+                    .append('=')
+                    .append(URLEncoder.encode((value == null) ? "" : value.toString(), StandardCharsets.UTF_8.name()));
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+        return this;
+    }
+
+    /**
+     * Set JSON body.
+     *
+     * @param body JSON body.
+     * @return this request.
+     */
+    RestRequest body(String body) {
+        this.body = body;
+        return this;
+    }
+
+    /**
+     * Set name of the operation of <code>Table</code> sending the request,
+     * e.g. <code>select</code>, which is reported to the metrics listener.
+     *
+     * @param operation name of operation.
+     * @return this request.
+     */
+    RestRequest operation(String operation) {
+        this.operation = operation;
+        return this;
+    }
+
+    /**
+     * Set offset of the requested page, which is reported to the flight recorder.
+     * The offset is sent by <code>queryString</code>.
+     *
+     * @param offset offset of page.
+     * @return this request.
+     */
+    RestRequest offset(String offset) {
+        this.offset = offset;
+        return this;
+    }
+
+    Method getMethod() {
+        return method;
+    }
+
+    /**
+     * @return URL including query string.
+     */
+    String getUrl() {
+        return url.toString();
+    }
+
+    Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    String getBody() {
+        return body;
+    }
+
+    String getOperation() {
+        return operation;
+    }
+
+    String getOffset() {
+        return offset;
+    }
+
+    /**
+     * Get URI to request. Characters of the path not allowed in URIs, e.g. spaces
+     * in the name of a table, are encoded.
+     *
+     * @return URI to request.
+     * @throws URISyntaxException if URL is not valid.
+     */
+    URI toUri() throws URISyntaxException {
+        try {
+            final URL parsed = new URL(getUrl());
+            final String path = URLDecoder.decode(parsed.getPath(), StandardCharsets.UTF_8.name());
+            final String uri = new URI(parsed.getProtocol(), parsed.getUserInfo(), parsed.getHost(), parsed.getPort(),
+                    path, null, parsed.getRef()).toASCIIString();
+
+            return new URI((parsed.getQuery() == null) ? uri : uri + "?" + parsed.getQuery());
+        } catch (java.net.MalformedURLException | UnsupportedEncodingException e) {
+            throw new URISyntaxException(getUrl(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * HTTP response of the REST API of Airtable.
+ *
+ * @since 0.3
+ */
+class RestResponse {
+
+    private final int status;
+
+    private final Map<String, String> headers;
+
+    private final byte[] body;
+
+    private long connectTime = -1;
+
+    private long timeToFirstByte = -1;
+
+    private long downloadTime = -1;
+
+    /**
+     *
+     * @param status HTTP status code.
+     * @param headers headers by name, ignoring case of names.
+     * @param body content of response.
+     */
+    RestResponse(int status, Map<String, String> headers, byte[] body) {
+        this.status = status;
+        this.headers = Collections.unmodifiableMap(headers);
+        this.body = body;
+    }
+
+    /**
+     * @return HTTP status code.
+     */
+    int getStatus() {
+        return status;
+    }
+
+    /**
+     * @param name name of header, ignoring case.
+     * @return value of header or <code>null</code> if not present.
+     */
+    String getHeader(String name) {
+        return headers.get(name);
+    }
+
+    /**
+     * @return headers by name.
+     */
+    Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * @return content of response.
+     */
+    InputStream getBody() {
+        return new ByteArrayInputStream(body);
+    }
+
+    /**
+     * @return content of response as String.
+     */
+    String getBodyAsString() {
+        return new String(body, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return size of content in bytes.
+     */
+    int getBodyLength() {
+        return body.length;
+    }
+
+    /**
+     * Set timings of the exchange measured by the HTTP client.
+     *
+     * @param connectTime time in nanoseconds to open the connection, 0 if a pooled connection was reused.
+     * @param timeToFirstByte time in nanoseconds from sending the request until the headers of the response were read.
+     * @param downloadTime time in nanoseconds to read the body.
+     * @return this response.
+     */
+    RestResponse timings(long connectTime, long timeToFirstByte, long downloadTime) {
+        this.connectTime = connectTime;
+        this.timeToFirstByte = timeToFirstByte;
+        this.downloadTime = downloadTime;
+        return this;
+    }
+
+    /**
+     * @return time in nanoseconds to open the connection, -1 if not measured.
+     */
+    long getConnectTime() {
+        return connectTime;
+    }
+
+    /**
+     * @return time in nanoseconds until the headers of the response were read, -1 if not measured.
+     */
+    long getTimeToFirstByte() {
+        return timeToFirstByte;
+    }
+
+    /**
+     * @return time in nanoseconds to read the body, -1 if not measured.
+     */
+    long getDownloadTime() {
+        return downloadTime;
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import javax.net.ssl.SSLException;
+import java.io.IOException;
+import java.net.UnknownHostException;
+
+/**
+ * Limits of retries of failed requests.
+ *
+ * Rate limited requests are retried. Reads and deletes, which could be sent
+ * again safely, are also retried on transient errors: network errors like
+ * connection resets or timeouts, and the status codes 502, 503 and 504.
+ *
+ * A request is retried at most <code>maxAttempts - 1</code> times and not after
+ * <code>maxRetryTime</code> since the first attempt. In addition all requests
+ * using the same policy share a retry budget: each request adds
+ * <code>retryRatio</code> to the budget, each retry takes 1 of it. So retries
+ * are limited to a share of the normal traffic and do not multiply the load
+ * while Airtable is overloaded. If a limit is exhausted, the request fails with
+ * <code>RetryExhaustedException</code>.
+ *
+ * The default policy <code>RetryPolicy.DEFAULT</code> is shared by all
+ * configurations which do not set another one, so its budget is process-wide.
+ *
+ * @since 0.3
+ */
+public class RetryPolicy {
+
+    /**
+     * Default maximum number of attempts of a request, including the first one.
+     */
+    public static final int MAX_ATTEMPTS = 10;
+
+    /**
+     * Default maximum time in milliseconds to retry a request.
+     */
+    public static final long MAX_RETRY_TIME = 120000;
+
+    /**
+     * Default share of retries on the requests.
+     */
+    public static final double RETRY_RATIO = 0.2;
+
+    /**
+     * Retries available in the budget initially, so there are retries before
+     * there was traffic.
+     */
+    static final double MIN_BUDGET = 10;
+
+    /**
+     * Maximum of retries saved in the budget.
+     */
+    static final double MAX_BUDGET = 100;
+
+    /**
+     * Default policy, shared by all configurations without own policy.
+     */
+    public static final RetryPolicy DEFAULT = new RetryPolicy();
+
+    private final int maxAttempts;
+
+    private final long maxRetryTime;
+
+    private final double retryRatio;
+
+    private final boolean retryTransient;
+
+    private double budget = MIN_BUDGET;
+
+    /**
+     * Create policy with default limits.
+     */
+    public RetryPolicy() {
+        this(MAX_ATTEMPTS, MAX_RETRY_TIME, RETRY_RATIO);
+    }
+
+    /**
+     * Create policy.
+     *
+     * @param maxAttempts maximum number of attempts of a request, including the first one.
+     * @param maxRetryTime maximum time in milliseconds to retry a request.
+     * @param retryRatio share of retries on the requests, e.g. 0.2 for 20 percent.
+     */
+    public RetryPolicy(int maxAttempts, long maxRetryTime, double retryRatio) {
+        this(maxAttempts, maxRetryTime, retryRatio, true);
+    }
+
+    /**
+     * Create policy.
+     *
+     * @param maxAttempts maximum number of attempts of a request, including the first one.
+     * @param maxRetryTime maximum time in milliseconds to retry a request.
+     * @param retryRatio share of retries on the requests, e.g. 0.2 for 20 percent.
+     * @param retryTransient true to retry reads and deletes on transient errors.
+     */
+    public RetryPolicy(int maxAttempts, long maxRetryTime, double retryRatio, boolean retryTransient) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1 but was " + maxAttempts);
+        }
+        if (maxRetryTime < 0) {
+            throw new IllegalArgumentException("maxRetryTime must not be negative but was " + maxRetryTime);
+        }
+        if (retryRatio < 0) {
+            throw new IllegalArgumentException("retryRatio must not be negative but was " + retryRatio);
+        }
+
+        this.maxAttempts = maxAttempts;
+        this.maxRetryTime = maxRetryTime;
+        this.retryRatio = retryRatio;
+        this.retryTransient = retryTransient;
+    }
+
+    /**
+     * @return maximum number of attempts of a request, including the first one.
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * @return maximum time in milliseconds to retry a request.
+     */
+    public long getMaxRetryTime() {
+        return maxRetryTime;
+    }
+
+    /**
+     * @return share of retries on the requests.
+     */
+    public double getRetryRatio() {
+        return retryRatio;
+    }
+
+    /**
+     * @return true if reads and deletes are retried on transient errors.
+     */
+    public boolean isRetryTransient() {
+        return retryTransient;
+    }
+
+    /**
+     * Is the status code of a response a transient error?
+     *
+     * @param status HTTP status code.
+     * @return true for 502, 503 and 504.
+     */
+    static boolean isTransient(int status) {
+        return status == 502 || status == 503 || status == 504;
+    }
+
+    /**
+     * Is the error of a request transient? Errors of name resolution and of
+     * TLS are not expected to go away by retrying.
+     *
+     * @param e the error.
+     * @return true if transient.
+     */
+    static boolean isTransient(IOException e) {
+        return !(e instanceof UnknownHostException || e instanceof SSLException);
+    }
+
+    /**
+     * @return number of retries currently available in the budget.
+     */
+    public synchronized double getBudget() {
+        return budget;
+    }
+
+    /**
+     * Add share of a request to the budget.
+     */
+    synchronized void onRequest() {
+        budget = Math.min(MAX_BUDGET, budget + retryRatio);
+    }
+
+    /**
+     * Take a retry from the budget.
+     *
+     * @return false if the budget is exhausted.
+     */
+    synchronized boolean tryRetry() {
+        if (budget < 1) {
+            return false;
+        }
+        budget -= 1;
+        return true;
+    }
+}
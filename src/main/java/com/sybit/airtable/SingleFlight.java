@@ -0,0 +1,117 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import com.sybit.airtable.exception.AirtableException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Coalescing of concurrent identical reads.
+ *
+ * While a call of a key is in flight, further calls of the same key wait for
+ * its result instead of sending their own request. All callers get the same
+ * result, or the same exception.
+ *
+ * @since 0.3
+ */
+class SingleFlight {
+
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> calls = new ConcurrentHashMap<>();
+
+    /**
+     * Call that could be shared.
+     *
+     * @param <V> type of result.
+     */
+    interface Call<V> {
+        V call() throws AirtableException;
+    }
+
+    /**
+     * Execute call of given key, or wait for the call of the same key in flight.
+     *
+     * @param key key of the call.
+     * @param call the call.
+     * @return result of the call.
+     * @throws AirtableException if the call failed or the waiting thread was interrupted.
+     */
+    @SuppressWarnings("unchecked")
+    <V> V execute(String key, Call<V> call) throws AirtableException {
+        final CompletableFuture<Object> future = new CompletableFuture<>();
+        final CompletableFuture<Object> inFlight = calls.putIfAbsent(key, future);
+        if (inFlight != null) {
+            return (V) await(inFlight);
+        }
+
+        try {
+            final V value = call.call();
+            future.complete(value);
+            return value;
+        } catch (AirtableException | RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            calls.remove(key, future);
+        }
+    }
+
+    /**
+     * Execute asynchronous call of given key, or share the call of the same key in flight.
+     *
+     * @param key key of the call.
+     * @param call the call.
+     * @return future of result of the call.
+     */
+    @SuppressWarnings("unchecked")
+    <V> CompletableFuture<V> executeAsync(String key, Supplier<CompletableFuture<V>> call) {
+        final CompletableFuture<Object> future = new CompletableFuture<>();
+        final CompletableFuture<Object> inFlight = calls.putIfAbsent(key, future);
+        if (inFlight != null) {
+            return inFlight.thenApply(value -> (V) value);
+        }
+
+        call.get().whenComplete((value, error) -> {
+            calls.remove(key, future);
+            if (error != null) {
+                future.completeExceptionally(error);
+            } else {
+                future.complete(value);
+            }
+        });
+
+        // callers must not complete the shared future
+        return future.thenApply(value -> (V) value);
+    }
+
+    /**
+     * Wait for result of call in flight.
+     *
+     * @param inFlight the call in flight.
+     * @return result of the call.
+     * @throws AirtableException if the call failed or the thread was interrupted.
+     */
+    private static Object await(CompletableFuture<Object> inFlight) throws AirtableException {
+        try {
+            return inFlight.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AirtableException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof AirtableException) {
+                throw (AirtableException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new AirtableException(e.getCause());
+        }
+    }
+}
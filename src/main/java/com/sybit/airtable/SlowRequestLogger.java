@@ -0,0 +1,77 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Interceptor logging requests which took longer than a threshold.
+ *
+ * Slow requests are logged as warning with table, operation, method, URL,
+ * status and the timings in milliseconds. The query string is not logged,
+ * because formulas may contain personal data.
+ *
+ * @since 0.3
+ */
+public class SlowRequestLogger implements RequestInterceptor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SlowRequestLogger.class);
+
+    private final long threshold;
+
+    /**
+     * Create logger.
+     *
+     * @param threshold minimum time of a logged request.
+     * @param unit unit of <code>threshold</code>.
+     */
+    public SlowRequestLogger(long threshold, TimeUnit unit) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("threshold must not be negative but was " + threshold);
+        }
+        this.threshold = unit.toNanos(threshold);
+    }
+
+    /**
+     * @return minimum time of a logged request in nanoseconds.
+     */
+    public long getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Check whether the request is logged.
+     *
+     * @param trace the completed request.
+     * @return <code>true</code> if the request took longer than the threshold.
+     */
+    public boolean isSlow(RequestTrace trace) {
+        return trace.getTotalTime() > threshold;
+    }
+
+    @Override
+    public void afterResponse(RequestTrace trace) {
+        if (isSlow(trace) && LOG.isWarnEnabled()) {
+            LOG.warn("Slow request table={} operation={} method={} url={} status={} total={}ms connect={}ms ttfb={}ms download={}ms bytes={}{}",
+                    trace.getTable(), trace.getOperation(), trace.getMethod(), trace.getUrl(), trace.getStatus(),
+                    millis(trace.getTotalTime()), millis(trace.getConnectTime()), millis(trace.getTimeToFirstByte()),
+                    millis(trace.getDownloadTime()), trace.getResponseSize(),
+                    (trace.getError() != null) ? " error=" + trace.getError() : "");
+        }
+    }
+
+    /**
+     * @param nanos time in nanoseconds or -1 if not measured.
+     * @return time in milliseconds or -1 if not measured.
+     */
+    private static long millis(long nanos) {
+        return (nanos < 0) ? -1 : TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
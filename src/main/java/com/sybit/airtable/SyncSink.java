@@ -0,0 +1,59 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import java.util.Collection;
+import java.util.Date;
+
+/**
+ * Local copy of a table kept up to date by <code>TableSync</code>.
+ *
+ * The sink stores the records and the high-water mark of the last sync. The
+ * mark is set after all changes of a sync were passed, so a sink storing the
+ * mark together with the records does not miss changes after a restart.
+ *
+ * @param <T> class representing a row of the table.
+ * @since 0.3
+ */
+public interface SyncSink<T> {
+
+    /**
+     * Add or replace record.
+     *
+     * @param id id of record.
+     * @param record the record.
+     */
+    void upsert(String id, T record);
+
+    /**
+     * Remove record, which was deleted in Airtable.
+     *
+     * @param id id of record.
+     */
+    void delete(String id);
+
+    /**
+     * Get ids of all records of the sink, used to detect deleted records.
+     *
+     * @return the ids.
+     */
+    Collection<String> ids();
+
+    /**
+     * Get high-water mark of the last sync.
+     *
+     * @return the mark or <code>null</code> if never synced.
+     */
+    Date getHighWaterMark();
+
+    /**
+     * Set high-water mark of the last sync.
+     *
+     * @param mark start time of the sync.
+     */
+    void setHighWaterMark(Date mark);
+}
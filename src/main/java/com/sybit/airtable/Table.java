@@ -6,29 +6,56 @@
  */
 package com.sybit.airtable;
 
-import com.google.gson.annotations.SerializedName;
-import com.mashape.unirest.http.HttpResponse;
-import com.mashape.unirest.http.Unirest;
-import com.mashape.unirest.http.exceptions.UnirestException;
-import com.mashape.unirest.request.GetRequest;
+import com.google.gson.JsonObject;
+import com.mashape.unirest.http.ObjectMapper;
+import com.sybit.airtable.RestRequest.Method;
 import com.sybit.airtable.exception.AirtableException;
+import com.sybit.airtable.exception.BatchException;
 import com.sybit.airtable.exception.HttpResponseExceptionHandler;
+import com.sybit.airtable.exception.UncheckedAirtableException;
 import com.sybit.airtable.vo.*;
 import org.apache.commons.beanutils.BeanUtils;
 import org.apache.commons.beanutils.BeanUtilsBean;
 import org.apache.commons.beanutils.PropertyUtils;
+import org.apache.commons.io.IOUtils;
 import org.apache.http.client.HttpResponseException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import javax.lang.model.SourceVersion;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
+import java.net.URLEncoder;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Map;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.TimeZone;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 
 /**
@@ -46,11 +73,35 @@ public class Table<T> {
     private static final String FIELD_ID = "id";
     private static final String FIELD_CREATED_TIME = "createdTime";
 
+    private static final int BATCH_SIZE = 10;
+
+    /**
+     * Maximum number of records per page.
+     */
+    private static final int PAGE_SIZE = 100;
+
+    /**
+     * Maximum length of an URL-encoded formula of <code>findAll</code>, which keeps URLs
+     * well below the limit of 16k characters of Airtable.
+     */
+    private static final int MAX_FORMULA_LENGTH = 4000;
+
+    /**
+     * Characters of record ids after the prefix <code>rec</code>.
+     */
+    private static final String RECORD_ID_CHARS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+
     private final String name;
     private final Class<T> type;
 
     private Base parent;
 
+    private volatile RecordMapper<T> mapper;
+
+    private volatile RecordCache<T> cache;
+
+    private final List<LinkExpansion<T, ?>> expansions = new CopyOnWriteArrayList<>();
+
     /**
      *
      * @param name name of table.
@@ -86,6 +137,60 @@ public class Table<T> {
         this.parent = parent;
     }
 
+    /**
+     * Set cache of records used by <code>find</code>.
+     *
+     * Records updated or deleted by this table are removed from the cache.
+     *
+     * @param cache the cache or <code>null</code> to disable caching.
+     * @since 0.3
+     */
+    public void setCache(RecordCache<T> cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Get cache of records used by <code>find</code>.
+     *
+     * @return the cache or <code>null</code> if caching is disabled.
+     * @since 0.3
+     */
+    public RecordCache<T> getCache() {
+        return cache;
+    }
+
+    /**
+     * Expand a linked-record field on <code>select</code>, <code>iterator</code>,
+     * <code>stream</code> and <code>parallelScan</code>.
+     *
+     * After a page is loaded, the ids of the linked records of all records of
+     * the page are loaded from <code>target</code> by <code>findAll</code> and
+     * passed to <code>setter</code>. Each linked record is loaded at most once
+     * per scan, shared by the partitions of a parallel scan. A scan keeps up to
+     * 10000 linked records, the least recently used are loaded again if
+     * needed. The property of the linked records should be
+     * <code>transient</code>, so it is not sent on create or update.
+     *
+     * <pre>
+     * movieTable.expand(Movie::getActors, Movie::setActorRecords, actorTable);
+     * </pre>
+     *
+     * @param ids getter of ids of the linked-record field.
+     * @param setter setter of linked records, in order of ids. Ids not found are skipped.
+     * @param target table of linked records.
+     * @param <L> class of linked records.
+     * @return this table.
+     * @since 0.3
+     */
+    public <L> Table<T> expand(Function<T, ? extends Collection<String>> ids, BiConsumer<T, List<L>> setter, Table<L> target) {
+        assert ids != null : "ids was null";
+        assert setter != null : "setter was null";
+        assert target != null : "target was null";
+
+        expansions.add(new LinkExpansion<>(ids, setter, target));
+        return this;
+    }
+
     /**
      * Select all rows of table.
      *
@@ -136,103 +241,291 @@ public class Table<T> {
     /**
      * Select List of data of table with defined Query Parameters.
      *
+     * All pages of the result are loaded before the list is returned. Use
+     * {@link #iterator(Query)} or {@link #stream(Query)} to process large
+     * tables page by page.
+     *
      * @param query defined query
      * @return list of table items
      * @throws AirtableException
      */
     @SuppressWarnings("WeakerAccess")
     public List<T> select(final Query query) throws AirtableException {
-        HttpResponse<Records> response;
-        try {
-            final GetRequest request = Unirest.get(getTableEndpointUrl())
-                    .header("accept", MIME_TYPE_JSON)
-                    .header("Authorization", getBearerToken())
-                    .header("Content-type" , MIME_TYPE_JSON);
+        final List<T> list = new ArrayList<>();
+        final PageIterator.PageLoader<T> loader = scanLoader(query);
 
-            if (query.getFields() != null && query.getFields().length > 0) {
-                String[] fields = query.getFields();
-                for (String field : fields) {
-                    request.queryString("fields[]", field);
+        String offset = query.getOffset();
+        do {
+            final RecordPage<T> page = loader.load(offset);
+            list.addAll(page.getRecords());
+            offset = page.getOffset();
+        } while (offset != null);
 
-                }
-            }
-            if (query.getMaxRecords() != null) {
-                request.queryString("maxRecords", query.getMaxRecords());
-            }
-            if (query.getView() != null) {
-                request.queryString("view", query.getView());
-            }
-            if (query.filterByFormula() != null) {
-                request.queryString("filterByFormula", query.filterByFormula());
-            }
-            if (query.getPageSize() != null) {
-                if (query.getPageSize() > 100) {
-                    LOG.warn("pageSize is limited to max 100 but was " + query.getPageSize());
-                    request.queryString("pageSize", 100);
-                } else {
-                    request.queryString("pageSize", query.getPageSize());
-                }
-            }
-            if (query.getSort() != null) {
-                int i = 0;
-                for (Sort sort : query.getSort()) {
-                    request.queryString("sort[" + i + "][field]", sort.getField());
-                    request.queryString("sort[" + i + "][direction]", sort.getDirection());
-                }
-            }
-            if (query.getOffset()!= null) {
-                request.queryString("offset", query.getOffset());
-            }
+        return list;
+    }
+
+    /**
+     * Iterate over the records of table with defined Query Parameters.
+     *
+     * The pages are loaded lazily while iterating, so only one page of records
+     * is held in memory at a time.
+     * Errors during loading of a page are thrown as {@link UncheckedAirtableException}.
+     *
+     * @param query defined query
+     * @return iterator over table items
+     */
+    public Iterator<T> iterator(final Query query) {
+        return new PageIterator<>(scanLoader(query), query.getOffset());
+    }
+
+    /**
+     * Stream the records of table with defined Query Parameters.
+     *
+     * The pages are loaded lazily while the stream is consumed, so only one page
+     * of records is held in memory at a time.
+     * Errors during loading of a page are thrown as {@link UncheckedAirtableException}.
+     *
+     * @param query defined query
+     * @return sequential stream of table items
+     */
+    public Stream<T> stream(final Query query) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator(query), Spliterator.ORDERED), false);
+    }
+
+    /**
+     * Stream the records of table with defined Query Parameters and prefetch pages.
+     *
+     * The pages are loaded by a background thread which keeps up to
+     * <code>prefetchPages</code> pages ahead of the consumer, so the requests
+     * to Airtable overlap with the processing of the records.
+     * The stream should be closed if it is not consumed completely.
+     * Errors during loading of a page are thrown as {@link UncheckedAirtableException}.
+     *
+     * @param query defined query
+     * @param prefetchPages number of pages to load ahead (1 to 3).
+     * @return sequential stream of table items
+     */
+    public Stream<T> stream(final Query query, final int prefetchPages) {
+        final PagePrefetcher<T> prefetcher = new PagePrefetcher<>(scanLoader(query),
+                query.getOffset(), prefetchPages, "airtable-prefetch-" + this.name);
+        final Iterator<T> iterator = new PageIterator<>(prefetcher, query.getOffset());
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(prefetcher::close);
+    }
+
+    /**
+     * Stream the records of table with defined Query Parameters by scanning
+     * disjoint partitions of the table concurrently.
+     *
+     * Airtable pages a select strictly one after another, so the records are
+     * split by the first character of their id after <code>rec</code> into
+     * <code>partitions</code> slices, each selected by an additional formula
+     * <code>FIND(MID(RECORD_ID(),4,1),'...')</code>. See
+     * {@link #parallelScan(Query, List)} for the behaviour of the stream.
+     *
+     * @param query defined query
+     * @param partitions number of slices paged concurrently (1 to 62).
+     * @return sequential stream of table items in undefined order
+     */
+    public Stream<T> parallelScan(final Query query, final int partitions) {
+        return parallelScan(query, recordIdPartitions(partitions));
+    }
+
+    /**
+     * Stream the records of table with defined Query Parameters by scanning
+     * ranges of a numeric or date field concurrently.
+     *
+     * The slices are <code>{field}&lt;bounds[0]</code>, <code>bounds[0]&lt;={field}&lt;bounds[1]</code>,
+     * ..., <code>{field}&gt;=bounds[n-1]</code>. Records with an empty field
+     * are part of the first slice. Bounds are numbers or dates, which should
+     * split the records into slices of similar size.
+     *
+     * @param query defined query
+     * @param field name of numeric or date field.
+     * @param bounds ascending bounds between the slices, <code>Number</code> or <code>Date</code>.
+     * @return sequential stream of table items in undefined order
+     */
+    public Stream<T> parallelScan(final Query query, final String field, final Object... bounds) {
+        return parallelScan(query, rangePartitions(field, bounds));
+    }
+
+    /**
+     * Stream the records of table with defined Query Parameters by scanning
+     * partitions of the table concurrently.
+     *
+     * Each partition is selected by the formula of the query combined with
+     * the formula of the partition by <code>AND</code>, so the formulas must
+     * select disjoint slices which together cover the table. The slices are
+     * paged by one background thread each within the rate limit of the base
+     * and merged into one stream as pages arrive, so sort order applies within
+     * slices only and the offset of the query is ignored. Each slice has at
+     * most one loaded page waiting to be consumed, while its thread loads the
+     * next page.
+     * The stream should be closed if it is not consumed completely.
+     * Errors during loading of a page are thrown as {@link UncheckedAirtableException}.
+     *
+     * @param query defined query
+     * @param partitions formulas of the partitions.
+     * @return sequential stream of table items in undefined order
+     */
+    public Stream<T> parallelScan(final Query query, final List<String> partitions) {
+        final List<LinkExpansion<T, ?>.Scan> scans = newScans();
+        final List<PageIterator.PageLoader<T>> loaders = new ArrayList<>();
+        for (String partition : partitions) {
+            final String formula = (query.filterByFormula() == null)
+                    ? partition : "AND(" + query.filterByFormula() + "," + partition + ")";
+            loaders.add(scanLoader(partitionQuery(query, formula), scans));
+        }
+
+        final PartitionedScan<T> scan = new PartitionedScan<>(loaders, "airtable-scan-" + this.name);
+        final Stream<T> stream = StreamSupport.stream(Spliterators.spliteratorUnknownSize(scan, 0), false)
+                .onClose(scan::close);
+
+        return (query.getMaxRecords() != null) ? stream.limit(query.getMaxRecords()) : stream;
+    }
+
+    /**
+     * Iterate over the records of table with defined Query Parameters as
+     * JSON objects of the API, without mapping them to the row class.
+     *
+     * Pages are loaded lazily like by {@link #iterator(Query)}, but neither
+     * expanded nor shared with identical reads.
+     *
+     * @param query defined query
+     * @return iterator over the records, each with <code>id</code>, <code>fields</code> and <code>createdTime</code>.
+     */
+    Iterator<Map<String, Object>> rawIterator(final Query query) {
+        return new PageIterator<>(offset -> selectRawPage(query, offset), query.getOffset());
+    }
 
-            LOG.debug("URL=" + request.getUrl());
+    private RecordPage<Map<String, Object>> selectRawPage(final Query query, final String offset) throws AirtableException {
+        return fetch(selectRequest(query, offset), response -> decodeRawPage(response.getBody()));
+    }
 
-            response = request.asObject(Records.class);
-        } catch (UnirestException e) {
+    /**
+     * Export the records of table with defined Query Parameters to a stream.
+     *
+     * The records are written as JSON objects of the API as they were received,
+     * without mapping them to the row class. Each page is written and flushed as soon as it is
+     * loaded, so only one page is held in memory. The stream is not closed.
+     *
+     * @param query defined query
+     * @param format format of the export.
+     * @param out target of the export.
+     * @return number of records written.
+     * @throws AirtableException if loading or writing failed.
+     * @throws IllegalArgumentException if the format is CSV and the query has no fields.
+     * @see ExportFormat
+     */
+    public long export(final Query query, final ExportFormat format, final OutputStream out) throws AirtableException {
+        final RecordExporter exporter = new RecordExporter(format, query.getFields(), out);
+        try {
+            String offset = query.getOffset();
+            do {
+                final RecordPage<JsonObject> page = fetch(selectRequest(query, offset),
+                        response -> RecordExporter.readPage(response.getBody()));
+                exporter.write(page.getRecords());
+                offset = page.getOffset();
+            } while (offset != null);
+
+            return exporter.finish();
+        } catch (IOException e) {
             throw new AirtableException(e);
         }
+    }
+
+    /**
+     * Export the records of table with defined Query Parameters to a channel.
+     *
+     * @param query defined query
+     * @param format format of the export.
+     * @param channel target of the export, which is not closed.
+     * @return number of records written.
+     * @throws AirtableException if loading or writing failed.
+     * @throws IllegalArgumentException if the format is CSV and the query has no fields.
+     * @see #export(Query, ExportFormat, OutputStream)
+     */
+    public long export(final Query query, final ExportFormat format, final WritableByteChannel channel) throws AirtableException {
+        return export(query, format, Channels.newOutputStream(channel));
+    }
 
-        int code = response.getStatus();
-        List<T> list;
-        if (200 == code) {
-            list = getList(response);
+    /**
+     * Create formulas splitting records by the first character of their id
+     * after <code>rec</code> into slices of similar size.
+     *
+     * @param partitions number of slices (1 to 62).
+     * @return the formulas.
+     */
+    static List<String> recordIdPartitions(final int partitions) {
+        if (partitions < 1 || partitions > RECORD_ID_CHARS.length()) {
+            throw new IllegalArgumentException("partitions must be between 1 and " + RECORD_ID_CHARS.length()
+                    + " but was " + partitions);
+        }
 
-            final String offset = response.getBody().getOffset();
+        final List<String> formulas = new ArrayList<>();
+        for (int i = 0; i < partitions; i++) {
+            final String chars = RECORD_ID_CHARS.substring(i * RECORD_ID_CHARS.length() / partitions,
+                    (i + 1) * RECORD_ID_CHARS.length() / partitions);
+            formulas.add("FIND(MID(RECORD_ID(),4,1),'" + chars + "')");
+        }
+        return formulas;
+    }
 
-            if (offset != null) {
-                list.addAll(this.select(query, offset));
-            }
-        } else if (429 == code) {
-            randomWait();
-            return select(query);
-        } else {
-            HttpResponseExceptionHandler.onResponse(response);
-            list = null;
+    /**
+     * Create formulas splitting records by ranges of a field. Each slice
+     * after the first excludes the following slices by <code>NOT</code>, so
+     * empty and invalid values fall into the first slice only.
+     *
+     * @param field name of field.
+     * @param bounds ascending bounds between the slices.
+     * @return the formulas.
+     */
+    static List<String> rangePartitions(final String field, final Object... bounds) {
+        if (bounds.length == 0) {
+            throw new IllegalArgumentException("at least one bound is required");
         }
 
-        return list;
+        final String reference = "{" + field + "}";
+        final List<String> atLeast = new ArrayList<>();
+        for (Object bound : bounds) {
+            atLeast.add(reference + ">=" + formulaValue(bound));
+        }
+
+        final List<String> formulas = new ArrayList<>();
+        formulas.add("NOT(" + atLeast.get(0) + ")");
+        for (int i = 1; i < atLeast.size(); i++) {
+            formulas.add("AND(" + atLeast.get(i - 1) + ",NOT(" + atLeast.get(i) + "))");
+        }
+        formulas.add(atLeast.get(atLeast.size() - 1));
+        return formulas;
     }
 
     /**
-     * Performs a sleep for random time period between 30 and 35 seconds
+     * @param value number or date.
+     * @return the value as formula.
      */
-    private void randomWait() {
-        try {
-            TimeUnit.SECONDS.sleep(ThreadLocalRandom.current().nextInt(30, 36));
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+    static String formulaValue(final Object value) {
+        if (value instanceof Number) {
+            return value.toString();
+        } else if (value instanceof Date) {
+            final SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
+            format.setTimeZone(TimeZone.getTimeZone("UTC"));
+            return "DATETIME_PARSE('" + format.format((Date) value) + "')";
         }
+        throw new IllegalArgumentException("bound must be a Number or Date but was " + value);
     }
 
     /**
-     * Get <code>List</code> by given offset.
+     * Create query of one partition, which keeps all parameters of the
+     * query except formula and offset.
      *
-     * @param query 
-     * @param offset
-     * @return
-     * @throws AirtableException
+     * @param query defined query
+     * @param formula formula of the partition.
+     * @return the query.
      */
-    private List<T> select(Query query, String offset) throws AirtableException {
-        return select(new Query() {
+    private static Query partitionQuery(final Query query, final String formula) {
+        return new Query() {
             @Override
             public Integer getMaxRecords() {
                 return query.getMaxRecords();
@@ -250,7 +543,7 @@ public class Table<T> {
 
             @Override
             public String filterByFormula() {
-                return query.filterByFormula();
+                return formula;
             }
 
             @Override
@@ -265,9 +558,568 @@ public class Table<T> {
 
             @Override
             public String getOffset() {
-                return offset;
+                return null;
             }
-        });
+        };
+    }
+
+    /**
+     * Create loader of the pages of one scan, which expands linked records of
+     * each page.
+     *
+     * @param query defined query
+     * @return the loader
+     */
+    private PageIterator.PageLoader<T> scanLoader(final Query query) {
+        return scanLoader(query, newScans());
+    }
+
+    /**
+     * Create loader of the pages of a scan, which expands linked records of
+     * each page by given expansions. The expansions may be shared by the
+     * loaders of the partitions of a scan.
+     *
+     * @param query defined query
+     * @param scans expansions of the scan.
+     * @return the loader
+     */
+    private PageIterator.PageLoader<T> scanLoader(final Query query, final List<LinkExpansion<T, ?>.Scan> scans) {
+        if (scans.isEmpty()) {
+            return offset -> selectPage(query, offset);
+        }
+
+        return offset -> {
+            final RecordPage<T> page = selectPage(query, offset);
+            for (LinkExpansion<T, ?>.Scan scan : scans) {
+                scan.expand(page.getRecords());
+            }
+            return page;
+        };
+    }
+
+    /**
+     * Start expansions of linked records of a scan.
+     *
+     * @return an expansion of each linked-record field.
+     */
+    private List<LinkExpansion<T, ?>.Scan> newScans() {
+        final List<LinkExpansion<T, ?>.Scan> scans = new ArrayList<>();
+        for (LinkExpansion<T, ?> expansion : expansions) {
+            scans.add(expansion.newScan());
+        }
+        return scans;
+    }
+
+    /**
+     * Load one page of records of table with defined Query Parameters.
+     *
+     * @param query defined query
+     * @param offset offset of the page, <code>null</code> for the first page.
+     * @return the loaded page
+     * @throws AirtableException
+     */
+    private RecordPage<T> selectPage(final Query query, final String offset) throws AirtableException {
+        return read(selectRequest(query, offset), response -> decodePage(response.getBody()));
+    }
+
+    /**
+     * Execute request to read records. Concurrent identical reads share one
+     * request if enabled by <code>Configuration.setSingleFlight(boolean)</code>.
+     * Only the response is shared, each caller decodes its own records.
+     *
+     * @param request the request.
+     * @param decoder decoder of successful response.
+     * @return decoded response.
+     * @throws AirtableException
+     */
+    private <R> R read(final RestRequest request, final ResponseDecoder<R> decoder) throws AirtableException {
+        final SingleFlight singleFlight = singleFlight();
+        if (singleFlight == null) {
+            return fetch(request, decoder);
+        }
+        final RestResponse response = singleFlight.execute(singleFlightKey(request), () -> fetch(request));
+        return decode(request, response, decoder);
+    }
+
+    /**
+     * Execute request to read records asynchronously.
+     *
+     * @param request the request.
+     * @param decoder decoder of successful response.
+     * @return future of decoded response.
+     * @see #read(RestRequest, ResponseDecoder)
+     */
+    private <R> CompletableFuture<R> readAsync(final RestRequest request, final ResponseDecoder<R> decoder) {
+        final SingleFlight singleFlight = singleFlight();
+        if (singleFlight == null) {
+            return executeAsync(request, decoder);
+        }
+        return singleFlight.executeAsync(singleFlightKey(request), () -> executeAsync(request))
+                .thenApply(response -> decodeAsync(request, response, decoder));
+    }
+
+    /**
+     * Execute request and decode successful response.
+     *
+     * @param request the request.
+     * @param decoder decoder of successful response.
+     * @return decoded response.
+     * @throws AirtableException
+     */
+    private <R> R fetch(final RestRequest request, final ResponseDecoder<R> decoder) throws AirtableException {
+        return decode(request, fetch(request), decoder);
+    }
+
+    /**
+     * Execute request and check that it was successful.
+     *
+     * @param request the request.
+     * @return the successful response.
+     * @throws AirtableException if the request failed.
+     */
+    private RestResponse fetch(final RestRequest request) throws AirtableException {
+        final RestResponse response = send(request);
+        if (200 != response.getStatus()) {
+            HttpResponseExceptionHandler.onResponse(response.getStatus(), response.getBody());
+        }
+        return response;
+    }
+
+    /**
+     * Decode successful response and report it to the metrics listener.
+     *
+     * @param request the request.
+     * @param response the successful response.
+     * @param decoder decoder of the response.
+     * @return decoded response.
+     * @throws AirtableException
+     */
+    private <R> R decode(final RestRequest request, final RestResponse response, final ResponseDecoder<R> decoder) throws AirtableException {
+        final Object event = FlightRecorderEvents.beginMapping();
+        final long start = System.nanoTime();
+        final R result = decoder.decode(response);
+        final int records = recordCount(result);
+        metrics().onDecoded(name, request.getOperation(), records, System.nanoTime() - start);
+        FlightRecorderEvents.commitMapping(event, type, records);
+        return result;
+    }
+
+    /**
+     * Decode successful response of an asynchronous request.
+     *
+     * @param request the request.
+     * @param response the successful response.
+     * @param decoder decoder of the response.
+     * @return decoded response.
+     * @throws CompletionException if decoding failed.
+     */
+    private <R> R decodeAsync(final RestRequest request, final RestResponse response, final ResponseDecoder<R> decoder) {
+        try {
+            return decode(request, response, decoder);
+        } catch (AirtableException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * Count records of a decoded response.
+     *
+     * @param result decoded response.
+     * @return number of records.
+     */
+    private static int recordCount(Object result) {
+        if (result instanceof RecordPage) {
+            return ((RecordPage<?>) result).getRecords().size();
+        } else if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        }
+        return (result == null || result instanceof Boolean) ? 0 : 1;
+    }
+
+    /**
+     * Get listener of the requests of the configuration.
+     *
+     * @return the listener, <code>MetricsListener.NONE</code> if not set.
+     */
+    private MetricsListener metrics() {
+        final Configuration config = base().airtable().getConfig();
+        final MetricsListener listener = (config != null) ? config.getMetricsListener() : null;
+        return (listener != null) ? listener : MetricsListener.NONE;
+    }
+
+    /**
+     * Get coalescing of identical reads of <code>Airtable</code>.
+     *
+     * @return the single-flight or <code>null</code> if not enabled.
+     */
+    private SingleFlight singleFlight() {
+        final Airtable airtable = base().airtable();
+        return airtable.getConfig().isSingleFlight() ? airtable.singleFlight() : null;
+    }
+
+    /**
+     * Key of identical reads: the same URL decoded to the same class.
+     *
+     * @param request the request.
+     * @return the key.
+     */
+    private String singleFlightKey(final RestRequest request) {
+        return type.getName() + " " + request.getMethod() + " " + request.getUrl();
+    }
+
+    /**
+     * Create request of one page of records with defined Query Parameters.
+     *
+     * @param query defined query
+     * @param offset offset of the page, <code>null</code> for the first page.
+     * @return the request
+     */
+    private RestRequest selectRequest(final Query query, final String offset) {
+        final RestRequest request = newRequest("select", Method.GET, getTableEndpointUrl())
+                .header("Content-type", MIME_TYPE_JSON);
+
+        if (query.getFields() != null && query.getFields().length > 0) {
+            String[] fields = query.getFields();
+            for (String field : fields) {
+                request.queryString("fields[]", field);
+
+            }
+        }
+        if (query.getMaxRecords() != null) {
+            request.queryString("maxRecords", query.getMaxRecords());
+        }
+        if (query.getView() != null) {
+            request.queryString("view", query.getView());
+        }
+        if (query.filterByFormula() != null) {
+            request.queryString("filterByFormula", query.filterByFormula());
+        }
+        if (query.getPageSize() != null) {
+            if (query.getPageSize() > PAGE_SIZE) {
+                LOG.warn("pageSize is limited to max 100 but was {}", query.getPageSize());
+                request.queryString("pageSize", PAGE_SIZE);
+            } else {
+                request.queryString("pageSize", query.getPageSize());
+            }
+        }
+        if (query.getSort() != null) {
+            int i = 0;
+            for (Sort sort : query.getSort()) {
+                request.queryString("sort[" + i + "][field]", sort.getField());
+                request.queryString("sort[" + i + "][direction]", sort.getDirection());
+            }
+        }
+        if (offset != null) {
+            request.queryString("offset", offset);
+            request.offset(offset);
+        }
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("URL={}", request.getUrl());
+        }
+
+        return request;
+    }
+
+    /**
+     * Create request to the API with headers for authentication.
+     *
+     * @param operation name of operation reported to the metrics listener.
+     * @param method HTTP method.
+     * @param url URL of request.
+     * @return the request.
+     */
+    private RestRequest newRequest(String operation, Method method, String url) {
+        return new RestRequest(method, url)
+                .operation(operation)
+                .header("accept", MIME_TYPE_JSON)
+                .header("Authorization", getBearerToken());
+    }
+
+    /**
+     * Execute request by the HTTP client of <code>Airtable</code>, as soon as
+     * the rate limiter of the base permits the request.
+     *
+     * @param request the request.
+     * @return the response.
+     * @throws AirtableException if the client is closed or the request failed.
+     */
+    private RestResponse execute(RestRequest request) throws AirtableException {
+        final RestClient client = base().airtable().restClient();
+        if (client == null) {
+            throw new AirtableException("Airtable is not configured or already closed");
+        }
+
+        acquirePermit();
+        final RequestTrace trace = beforeRequest(request);
+        final long start = System.nanoTime();
+        try {
+            final RestResponse response = client.execute(request);
+            final long nanos = System.nanoTime() - start;
+            metrics().onAttempt(name, request.getOperation(), response.getStatus(), nanos, response.getBodyLength());
+            afterResponse(trace, response, null, nanos);
+            return response;
+        } catch (IOException e) {
+            final long nanos = System.nanoTime() - start;
+            metrics().onAttempt(name, request.getOperation(), 0, nanos, 0);
+            afterResponse(trace, null, e, nanos);
+            throw new AirtableException(e);
+        }
+    }
+
+    /**
+     * Call the interceptors of the configuration before a request is sent.
+     *
+     * @param request the request.
+     * @return trace of the request or <code>null</code> if no interceptors are configured.
+     */
+    private RequestTrace beforeRequest(RestRequest request) {
+        final List<RequestInterceptor> interceptors = interceptors();
+        if (interceptors.isEmpty()) {
+            return null;
+        }
+
+        final RequestTrace trace = new RequestTrace(name, request);
+        for (RequestInterceptor interceptor : interceptors) {
+            try {
+                interceptor.beforeRequest(trace);
+            } catch (RuntimeException e) {
+                LOG.warn("Interceptor {} failed before request: {}", interceptor, e.getMessage(), e);
+            }
+        }
+        return trace;
+    }
+
+    /**
+     * Call the interceptors of the configuration in reverse order after a
+     * response was read or the request failed.
+     *
+     * @param trace trace of the request, <code>null</code> if no interceptors were called before.
+     * @param response the response or <code>null</code> if the request failed.
+     * @param error cause of the failure.
+     * @param nanos time in nanoseconds from sending the request until the response was read.
+     */
+    private void afterResponse(RequestTrace trace, RestResponse response, Throwable error, long nanos) {
+        if (trace == null) {
+            return;
+        }
+        if (response != null) {
+            trace.response(response, nanos);
+        } else {
+            trace.failure(error, nanos);
+        }
+
+        final List<RequestInterceptor> interceptors = interceptors();
+        for (ListIterator<RequestInterceptor> it = interceptors.listIterator(interceptors.size()); it.hasPrevious(); ) {
+            final RequestInterceptor interceptor = it.previous();
+            try {
+                interceptor.afterResponse(trace);
+            } catch (RuntimeException e) {
+                LOG.warn("Interceptor {} failed after response: {}", interceptor, e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Get interceptors of the requests of the configuration.
+     *
+     * @return the interceptors, empty if not configured.
+     */
+    private List<RequestInterceptor> interceptors() {
+        final Configuration config = base().airtable().getConfig();
+        return (config != null) ? config.getInterceptors() : Collections.<RequestInterceptor>emptyList();
+    }
+
+    /**
+     * Serialize body of request by the ObjectMapper of <code>Airtable</code>.
+     *
+     * @param value body of request.
+     * @return JSON of body.
+     */
+    String writeValue(Object value) {
+        return objectMapper().writeValue(value);
+    }
+
+    /**
+     * Deserialize body of response by the ObjectMapper of <code>Airtable</code>.
+     *
+     * @param response the response.
+     * @param valueType class of body.
+     * @return body of response.
+     */
+    private <V> V readValue(RestResponse response, Class<V> valueType) {
+        return objectMapper().readValue(response.getBodyAsString(), valueType);
+    }
+
+    /**
+     * Get the ObjectMapper of <code>Airtable</code>, <code>GsonObjectMapper</code> if not configured.
+     *
+     * @return the ObjectMapper.
+     */
+    private ObjectMapper objectMapper() {
+        final ObjectMapper objectMapper = base().airtable().objectMapper();
+        return (objectMapper != null) ? objectMapper : new GsonObjectMapper();
+    }
+
+    /**
+     * Copy record, so records in the cache are not shared with callers.
+     *
+     * @param item the record.
+     * @return the copy.
+     * @throws AirtableException if the record could not be copied.
+     */
+    private T copyOf(T item) throws AirtableException {
+        try {
+            return mapper().copy(item);
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new AirtableException(e);
+        }
+    }
+
+    /**
+     * Remove record from cache after it was written.
+     *
+     * @param id id of record.
+     */
+    private void invalidate(String id) {
+        final RecordCache<T> recordCache = this.cache;
+        if (recordCache != null) {
+            recordCache.invalidate(id);
+        }
+    }
+
+    /**
+     * Wait until the rate limiter of the base permits the next request.
+     *
+     * @throws AirtableException if interrupted while waiting.
+     */
+    private void acquirePermit() throws AirtableException {
+        try {
+            base().rateLimiter().acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AirtableException(e);
+        }
+    }
+
+    /**
+     * Execute request. The request is sent again after a wait if the rate limit
+     * was exceeded, or if a read or delete failed by a transient error, within
+     * the limits of the retry policy of the configuration.
+     *
+     * @param request the request.
+     * @return the response of the last attempt.
+     * @throws AirtableException if the request failed, the retries are exhausted or interrupted while waiting.
+     */
+    private RestResponse send(final RestRequest request) throws AirtableException {
+        final Object event = FlightRecorderEvents.beginRequest();
+        final RateController.Backoff backoff = newBackoff();
+        int status = 0;
+
+        try {
+            while (true) {
+                RestResponse response = null;
+                AirtableException error = null;
+                try {
+                    response = execute(request);
+                    status = response.getStatus();
+                } catch (AirtableException e) {
+                    error = e;
+                    status = 0;
+                }
+
+                final long wait = retryWait(request, response, (error != null) ? error.getCause() : null, backoff);
+                if (wait < 0) {
+                    if (error != null) {
+                        throw error;
+                    }
+                    return response;
+                }
+                try {
+                    TimeUnit.NANOSECONDS.sleep(wait);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new AirtableException(e);
+                }
+            }
+        } finally {
+            completed(request, backoff, event, status);
+        }
+    }
+
+    /**
+     * Report completed request to the metrics listener and the flight recorder.
+     *
+     * @param request the request.
+     * @param backoff backoff of the request.
+     * @param event flight recorder event of the request.
+     * @param status HTTP status code of the last attempt, 0 if it failed without response.
+     */
+    private void completed(RestRequest request, RateController.Backoff backoff, Object event, int status) {
+        metrics().onRequest(name, request.getOperation(), System.nanoTime() - backoff.getStarted(), 200 == status);
+        FlightRecorderEvents.commitRequest(event, name, request, status, backoff.getAttempts() - 1);
+    }
+
+    /**
+     * Start attempts of a request.
+     *
+     * @return backoff of the request.
+     */
+    private RateController.Backoff newBackoff() {
+        final RetryPolicy policy = retryPolicy();
+        policy.onRequest();
+        return base().rateController().newBackoff(policy);
+    }
+
+    /**
+     * Get time to wait before an attempt is sent again.
+     *
+     * Rate limited attempts are retried. Reads and deletes are also retried on
+     * transient errors if enabled by the retry policy. Only successful
+     * attempts increase the rate, other failures do not change it.
+     *
+     * @param request the request.
+     * @param response response of the attempt, <code>null</code> if failed by <code>error</code>.
+     * @param error error of the attempt, <code>null</code> if there is a response.
+     * @param backoff backoff of the request.
+     * @return time to wait in nanoseconds, or -1 if the attempt is not retried.
+     * @throws AirtableException if a limit of the retry policy is exhausted.
+     */
+    private long retryWait(RestRequest request, RestResponse response, Throwable error,
+                           RateController.Backoff backoff) throws AirtableException {
+        final long wait;
+        if (response != null && 429 == response.getStatus()) {
+            wait = backoff.onRateLimited(response);
+        } else {
+            if (response != null && response.getStatus() >= 200 && response.getStatus() < 300) {
+                base().rateController().onSuccess();
+            }
+
+            final boolean idempotent = request.getMethod() == Method.GET || request.getMethod() == Method.DELETE;
+            if (!idempotent || !retryPolicy().isRetryTransient()) {
+                return -1;
+            } else if (response != null && RetryPolicy.isTransient(response.getStatus())) {
+                wait = backoff.onTransientFailure("Server error " + response.getStatus(), null);
+            } else if (error instanceof IOException && RetryPolicy.isTransient((IOException) error)) {
+                wait = backoff.onTransientFailure("Request failed by " + error, error);
+            } else {
+                return -1;
+            }
+        }
+
+        LOG.debug("Attempt {} of {} {} failed, retrying in {} ms", backoff.getAttempts() - 1,
+                request.getMethod(), request.getUrl(), TimeUnit.NANOSECONDS.toMillis(wait));
+        metrics().onRetry(name, request.getOperation(), backoff.getAttempts() - 1,
+                (response != null) ? String.valueOf(response.getStatus()) : error.getClass().getSimpleName());
+        return wait;
+    }
+
+    /**
+     * @return limits of retries of failed requests.
+     */
+    private RetryPolicy retryPolicy() {
+        final Configuration config = base().airtable().getConfig();
+        return (config != null && config.getRetryPolicy() != null) ? config.getRetryPolicy() : RetryPolicy.DEFAULT;
     }
 
     /**
@@ -424,7 +1276,259 @@ public class Table<T> {
      */
     public List<T> select(String[] fields) throws AirtableException, HttpResponseException {
 
-        return select(new Query() {
+        return select(new Query() {
+            @Override
+            public Integer getMaxRecords() {
+                return null;
+            }
+
+            @Override
+            public String getView() {
+                return null;
+            }
+
+            @Override
+            public List<Sort> getSort() {
+                return null;
+            }
+
+            @Override
+            public String filterByFormula() {
+                return null;
+            }
+
+            @Override
+            public String[] getFields() {
+                return fields;
+            }
+
+            @Override
+            public Integer getPageSize() {
+                return null;
+            }
+
+            @Override
+            public String getOffset() {
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Decode a page of records.
+     *
+     * Using the default <code>GsonObjectMapper</code> the records are decoded
+     * directly from the stream of the response. A custom <code>ObjectMapper</code>
+     * is used to read <code>Records</code> first, which are transformed afterwards.
+     *
+     * @param body body of response.
+     * @return decoded page.
+     * @throws AirtableException
+     */
+    private RecordPage<T> decodePage(InputStream body) throws AirtableException {
+        try {
+            final ObjectMapper objectMapper = base().airtable().objectMapper();
+            if (objectMapper == null || objectMapper instanceof GsonObjectMapper) {
+                return new RecordReader<>(mapper()).readPage(body);
+            }
+
+            final Records records = objectMapper.readValue(IOUtils.toString(body, StandardCharsets.UTF_8), Records.class);
+            return new RecordPage<>(getList(records), records.getOffset());
+        } catch (IOException | InvocationTargetException | IllegalAccessException | InstantiationException e) {
+            throw new AirtableException(e);
+        }
+    }
+
+    /**
+     * Decode a page of records as JSON objects of the API.
+     *
+     * @param body body of response.
+     * @return decoded page.
+     * @throws AirtableException
+     */
+    private RecordPage<Map<String, Object>> decodeRawPage(InputStream body) throws AirtableException {
+        try {
+            final Records records = objectMapper().readValue(IOUtils.toString(body, StandardCharsets.UTF_8), Records.class);
+            final List<Map<String, Object>> list = (records.getRecords() != null)
+                    ? records.getRecords() : Collections.<Map<String, Object>>emptyList();
+            return new RecordPage<>(list, records.getOffset());
+        } catch (IOException e) {
+            throw new AirtableException(e);
+        }
+    }
+
+    /**
+     * Decode a single record.
+     *
+     * @param body body of response.
+     * @return decoded record.
+     * @throws AirtableException
+     * @see #decodePage(InputStream)
+     */
+    T decodeRecord(InputStream body) throws AirtableException {
+        try {
+            final ObjectMapper objectMapper = base().airtable().objectMapper();
+            if (objectMapper == null || objectMapper instanceof GsonObjectMapper) {
+                return new RecordReader<>(mapper()).readRecord(body);
+            }
+
+            final RecordItem record = objectMapper.readValue(IOUtils.toString(body, StandardCharsets.UTF_8), RecordItem.class);
+            return transform(record, mapper().newInstance());
+        } catch (IOException | InvocationTargetException | IllegalAccessException | InstantiationException e) {
+            throw new AirtableException(e);
+        }
+    }
+
+    /**
+     * Get List of records of response.
+     *
+     * @param records
+     * @return
+     */
+    private List<T> getList(Records records) {
+
+        final List<T> list = new ArrayList<>();
+
+        for (Map<String, Object> record : records.getRecords()) {
+            T item = null;
+            try {
+                item = transform(record, mapper().newInstance());
+            } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+                LOG.error(e.getMessage(), e);
+            }
+            list.add(item);
+        }
+        return list;
+    }
+
+    /**
+     * Find record by given id.
+     *
+     * @param id id of record.
+     * @return searched record.
+     * @throws AirtableException
+     */
+    public T find(final String id) throws AirtableException {
+
+        final RecordCache<T> recordCache = this.cache;
+        if (recordCache == null) {
+            return load(id);
+        }
+
+        final T cached = recordCache.get(id);
+        if (cached != null) {
+            return copyOf(cached);
+        }
+
+        final long generation = recordCache.generation();
+        final T item = load(id);
+        if (item != null) {
+            recordCache.put(id, copyOf(item), generation);
+        }
+        return item;
+    }
+
+    /**
+     * Find records by given ids.
+     *
+     * Instead of one request per id, the ids are combined into formulas
+     * <code>OR(RECORD_ID()='...',...)</code> of up to 100 ids each, which are
+     * loaded by <code>select</code>. Records in the cache are not loaded again.
+     *
+     * @param ids ids of records.
+     * @return found records by id in order of <code>ids</code>. Ids not found are missing.
+     * @throws AirtableException
+     * @since 0.3
+     */
+    public Map<String, T> findAll(final Collection<String> ids) throws AirtableException {
+        final Set<String> missing = new LinkedHashSet<>(ids);
+        final Map<String, T> found = new HashMap<>();
+
+        final RecordCache<T> recordCache = this.cache;
+        final long generation = (recordCache != null) ? recordCache.generation() : 0;
+        if (recordCache != null) {
+            for (Iterator<String> it = missing.iterator(); it.hasNext(); ) {
+                final String id = it.next();
+                final T item = recordCache.get(id);
+                if (item != null) {
+                    found.put(id, copyOf(item));
+                    it.remove();
+                }
+            }
+        }
+
+        for (String formula : recordIdFormulas(missing)) {
+            for (T item : select(formulaQuery(formula, PAGE_SIZE))) {
+                final String id = idOf(item);
+                found.put(id, item);
+                if (recordCache != null) {
+                    recordCache.put(id, copyOf(item), generation);
+                }
+            }
+        }
+
+        final Map<String, T> result = new LinkedHashMap<>();
+        for (String id : ids) {
+            if (found.containsKey(id)) {
+                result.put(id, found.get(id));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Combine ids into formulas <code>OR(RECORD_ID()='...',...)</code>, each of up to
+     * 100 ids and within <code>MAX_FORMULA_LENGTH</code> characters if URL-encoded.
+     *
+     * @param ids ids of records.
+     * @return the formulas.
+     */
+    static List<String> recordIdFormulas(final Collection<String> ids) {
+        final List<String> formulas = new ArrayList<>();
+        final StringBuilder formula = new StringBuilder();
+        int count = 0;
+        int length = 0;
+
+        for (String id : ids) {
+            final String clause = "RECORD_ID()='" + id.replace("\\", "\\\\").replace("'", "\\'") + "'";
+            final int clauseLength = urlEncodedLength(clause) + 3;
+            if (count > 0 && (count == PAGE_SIZE || length + clauseLength > MAX_FORMULA_LENGTH)) {
+                formulas.add("OR(" + formula + ")");
+                formula.setLength(0);
+                count = 0;
+                length = 0;
+            }
+            if (count > 0) {
+                formula.append(',');
+            }
+            formula.append(clause);
+            count++;
+            length += clauseLength;
+        }
+        if (count > 0) {
+            formulas.add("OR(" + formula + ")");
+        }
+
+        return formulas;
+    }
+
+    private static int urlEncodedLength(final String value) {
+        try {
+            return URLEncoder.encode(value, StandardCharsets.UTF_8.name()).length();
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Create query of all records matching given formula.
+     *
+     * @param formula the formula or <code>null</code> for all records.
+     * @param pageSize records per page or <code>null</code> for the default.
+     * @return the query.
+     */
+    static Query formulaQuery(final String formula, final Integer pageSize) {
+        return new Query() {
             @Override
             public Integer getMaxRecords() {
                 return null;
@@ -442,86 +1546,50 @@ public class Table<T> {
 
             @Override
             public String filterByFormula() {
-                return null;
+                return formula;
             }
 
             @Override
             public String[] getFields() {
-                return fields;
+                return null;
             }
 
             @Override
             public Integer getPageSize() {
-                return null;
+                return pageSize;
             }
 
             @Override
             public String getOffset() {
                 return null;
             }
-        });
+        };
     }
 
     /**
-     * Get List of records of response.
+     * Get id of record.
      *
-     * @param response
-     * @return
+     * @param item the record.
+     * @return id of record.
+     * @throws AirtableException if the class of the record has no id.
      */
-    private List<T> getList(HttpResponse<Records> response) {
-
-        final Records records = response.getBody();
-        final List<T> list = new ArrayList<>();
-
-        for (Map<String, Object> record : records.getRecords()) {
-            T item = null;
-            try {
-                item = transform(record, this.type.newInstance());
-            } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
-                LOG.error(e.getMessage(), e);
-            }
-            list.add(item);
+    String idOf(final T item) throws AirtableException {
+        try {
+            return getIdOfItem(item);
+        } catch (IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
+            throw new AirtableException(e);
         }
-        return list;
     }
 
     /**
-     * Find record by given id.
+     * Load record by given id.
      *
      * @param id id of record.
-     * @return searched record.
+     * @return loaded record.
      * @throws AirtableException
      */
-    public T find(final String id) throws AirtableException {
-
-        RecordItem body;
-
-        HttpResponse<RecordItem> response;
-        try {
-            response = Unirest.get(getTableEndpointUrl() + "/" + id)
-                    .header("accept", MIME_TYPE_JSON)
-                    .header("Authorization", getBearerToken())
-                    .asObject(RecordItem.class);
-        } catch (UnirestException e) {
-            throw new AirtableException(e);
-        }
-        int code = response.getStatus();
-
-        if (200 == code) {
-            body = response.getBody();
-        } else if (429 == code) {
-            randomWait();
-            return find(id);
-        } else {
-            HttpResponseExceptionHandler.onResponse(response);
-            body = null;
-        }
-
-        try {
-            return transform(body, this.type.newInstance());
-        } catch (InvocationTargetException | IllegalAccessException | InstantiationException e) {
-            throw new AirtableException(e);
-        }
+    private T load(final String id) throws AirtableException {
+        return read(newRequest("find", Method.GET, getTableEndpointUrl() + "/" + id), response -> decodeRecord(response.getBody()));
     }
 
     /**
@@ -536,43 +1604,19 @@ public class Table<T> {
      */
     public T create(final T item) throws AirtableException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
 
-        RecordItem responseBody = null;
+        T result = null;
 
         checkProperties(item);
 
         PostRecord body = new PostRecord<>();
         body.setFields(item);
 
-        HttpResponse<RecordItem> response;
-        try {
-            response = Unirest.post(getTableEndpointUrl())
-                    .header("accept", MIME_TYPE_JSON)
-                    .header("Authorization", getBearerToken())
-                    .header("Content-type", MIME_TYPE_JSON)
-                    .body(body)
-                    .asObject(RecordItem.class);
-        } catch (UnirestException e) {
-            throw new AirtableException(e);
-        }
-
-        int code = response.getStatus();
-
-        if (200 == code) {
-            responseBody = response.getBody();
-        } else if (429 == code) {
-            randomWait();
-            return create(item);
-        } else {
-            HttpResponseExceptionHandler.onResponse(response);
-        }
-
-        try {
-            return transform(responseBody, this.type.newInstance());
-        } catch (InvocationTargetException | IllegalAccessException | InstantiationException e) {
-            LOG.error(e.getMessage(), e);
-        }
+        result = fetch(newRequest("create", Method.POST, getTableEndpointUrl())
+                        .header("Content-type", MIME_TYPE_JSON)
+                        .body(writeValue(body)),
+                response -> decodeRecord(response.getBody()));
 
-        return null;
+        return result;
     }
 
     /**
@@ -586,42 +1630,20 @@ public class Table<T> {
      * @throws NoSuchMethodException 
      */
     public T update(final T item) throws AirtableException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
-        RecordItem responseBody = null;
+        T result = null;
 
         String id = getIdOfItem(item);
 
         PostRecord body = new PostRecord<>();
         body.setFields(filterFields(item));
 
-        HttpResponse<RecordItem> response;
-        try {
-            response = Unirest.patch(getTableEndpointUrl() + "/" + id)
-                    .header("accept", MIME_TYPE_JSON)
-                    .header("Authorization", getBearerToken())
-                    .header("Content-type", MIME_TYPE_JSON)
-                    .body(body)
-                    .asObject(RecordItem.class);
-        } catch (UnirestException e) {
-            throw new AirtableException(e);
-        }
-
-        int code = response.getStatus();
-
-        if (200 == code) {
-            responseBody = response.getBody();
-        } else if (429 == code) {
-            randomWait();
-            return update(item);
-        } else {
-            HttpResponseExceptionHandler.onResponse(response);
-        }
-
-        T result;
         try {
-            result = transform(responseBody, this.type.newInstance());
-        } catch (InvocationTargetException | IllegalAccessException | InstantiationException e) {
-            LOG.error(e.getMessage(), e);
-            result = null;
+            result = fetch(newRequest("update", Method.PATCH, getTableEndpointUrl() + "/" + id)
+                            .header("Content-type", MIME_TYPE_JSON)
+                            .body(writeValue(body)),
+                    response -> decodeRecord(response.getBody()));
+        } finally {
+            invalidate(id);
         }
 
         return result;
@@ -650,26 +1672,11 @@ public class Table<T> {
 
         boolean isDeleted;
 
-        HttpResponse<Delete> response;
         try {
-            response = Unirest.delete(getTableEndpointUrl() + "/" + id)
-                    .header("accept", MIME_TYPE_JSON)
-                    .header("Authorization", getBearerToken())
-                    .asObject(Delete.class);
-        } catch (UnirestException e) {
-            throw new AirtableException(e);
-        }
-        int code = response.getStatus();
-
-        if (200 == code) {
-            Delete body = response.getBody();
-            isDeleted = body.isDeleted();
-        } else if (429 == code) {
-            randomWait();
-            return destroy(id);
-        } else {
-            isDeleted = false;
-            HttpResponseExceptionHandler.onResponse(response);
+            isDeleted = fetch(newRequest("destroy", Method.DELETE, getTableEndpointUrl() + "/" + id),
+                    response -> readValue(response, Delete.class).isDeleted());
+        } finally {
+            invalidate(id);
         }
 
 //        if (!body.isDeleted()) {
@@ -679,6 +1686,449 @@ public class Table<T> {
         return isDeleted;
     }
 
+    /**
+     * Select all rows of table with defined Query Parameters without blocking
+     * the calling thread.
+     *
+     * The pages are loaded one after another by the non-blocking HTTP client,
+     * paced by the same rate limiter as synchronous requests.
+     *
+     * @param query defined query
+     * @return future of list of all items.
+     * @since 0.3
+     */
+    public CompletableFuture<List<T>> selectAsync(final Query query) {
+        return selectAsync(query, query.getOffset(), new ArrayList<>());
+    }
+
+    /**
+     * Load the page of given offset and all following pages asynchronously.
+     *
+     * @param query defined query
+     * @param offset offset of the page, <code>null</code> for the first page.
+     * @param list items of the pages loaded before.
+     * @return future of list of all items.
+     */
+    private CompletableFuture<List<T>> selectAsync(final Query query, final String offset, final List<T> list) {
+        return readAsync(selectRequest(query, offset), response -> decodePage(response.getBody()))
+                .thenCompose(page -> {
+                    list.addAll(page.getRecords());
+                    if (page.getOffset() == null) {
+                        return CompletableFuture.completedFuture(list);
+                    }
+                    return selectAsync(query, page.getOffset(), list);
+                });
+    }
+
+    /**
+     * Find record by given id without blocking the calling thread.
+     *
+     * @param id id of record.
+     * @return future of searched record.
+     * @since 0.3
+     */
+    public CompletableFuture<T> findAsync(final String id) {
+        final RecordCache<T> recordCache = this.cache;
+        if (recordCache == null) {
+            return readAsync(newRequest("find", Method.GET, getTableEndpointUrl() + "/" + id),
+                    response -> decodeRecord(response.getBody()));
+        }
+
+        final T cached = recordCache.get(id);
+        if (cached != null) {
+            try {
+                return CompletableFuture.completedFuture(copyOf(cached));
+            } catch (AirtableException e) {
+                return failedFuture(e);
+            }
+        }
+
+        final long generation = recordCache.generation();
+        return readAsync(newRequest("find", Method.GET, getTableEndpointUrl() + "/" + id),
+                response -> decodeRecord(response.getBody()))
+                .thenApply(item -> {
+                    if (item != null) {
+                        try {
+                            recordCache.put(id, copyOf(item), generation);
+                        } catch (AirtableException e) {
+                            throw new CompletionException(e);
+                        }
+                    }
+                    return item;
+                });
+    }
+
+    /**
+     * Create Record of given Item without blocking the calling thread.
+     *
+     * @param item the item to be created
+     * @return future of the created item
+     * @since 0.3
+     */
+    public CompletableFuture<T> createAsync(final T item) {
+        PostRecord body = new PostRecord<>();
+        try {
+            checkProperties(item);
+            body.setFields(item);
+        } catch (AirtableException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
+            return failedFuture(e);
+        }
+
+        return executeAsync(newRequest("create", Method.POST, getTableEndpointUrl())
+                        .header("Content-type", MIME_TYPE_JSON)
+                        .body(writeValue(body)),
+                response -> decodeRecord(response.getBody()));
+    }
+
+    /**
+     * Update given <code>item</code> in storage without blocking the calling thread.
+     *
+     * @param item Item to update.
+     * @return future of updated <code>item</code> returned by airtable.
+     * @since 0.3
+     */
+    public CompletableFuture<T> updateAsync(final T item) {
+        final String id;
+        PostRecord body = new PostRecord<>();
+        try {
+            id = getIdOfItem(item);
+            body.setFields(filterFields(item));
+        } catch (AirtableException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
+            return failedFuture(e);
+        }
+
+        return executeAsync(newRequest("update", Method.PATCH, getTableEndpointUrl() + "/" + id)
+                        .header("Content-type", MIME_TYPE_JSON)
+                        .body(writeValue(body)),
+                response -> decodeRecord(response.getBody()))
+                .whenComplete((result, error) -> invalidate(id));
+    }
+
+    /**
+     * Delete Record by given id without blocking the calling thread.
+     *
+     * @param id Id of the row to delete.
+     * @return future of true if success.
+     * @since 0.3
+     */
+    public CompletableFuture<Boolean> destroyAsync(final String id) {
+        return executeAsync(newRequest("destroy", Method.DELETE, getTableEndpointUrl() + "/" + id),
+                response -> readValue(response, Delete.class).isDeleted())
+                .whenComplete((result, error) -> invalidate(id));
+    }
+
+    /**
+     * Execute request by the non-blocking HTTP client of <code>Airtable</code>.
+     *
+     * The request is delayed until the rate limiter of the base permits it, and
+     * sent again after a wait if the rate limit was exceeded anyway, or if a
+     * read or delete failed by a transient error, within the limits of the
+     * retry policy of the configuration.
+     * Other failures are mapped by <code>HttpResponseExceptionHandler</code>.
+     * Responses are handled by the async executor of the configuration, not
+     * by the I/O threads of the HTTP client.
+     *
+     * @param request the request.
+     * @param decoder decoder of successful response.
+     * @return future of decoded response, completed exceptionally with <code>AirtableException</code>.
+     */
+    private <R> CompletableFuture<R> executeAsync(RestRequest request, ResponseDecoder<R> decoder) {
+        return executeAsync(request).thenApply(response -> decodeAsync(request, response, decoder));
+    }
+
+    /**
+     * Execute request by the non-blocking HTTP client without decoding the response.
+     *
+     * @param request the request.
+     * @return future of successful response, completed exceptionally with <code>AirtableException</code>.
+     * @see #executeAsync(RestRequest, ResponseDecoder)
+     */
+    private CompletableFuture<RestResponse> executeAsync(RestRequest request) {
+        final Object event = FlightRecorderEvents.beginRequest();
+        return executeAsync(request, 0, newBackoff(), event);
+    }
+
+    /**
+     * Execute request asynchronously after given delay.
+     *
+     * @param request the request.
+     * @param delay time in nanoseconds to wait in addition to the rate limiter.
+     * @param backoff backoff of the request.
+     * @param event flight recorder event of the request.
+     * @return future of successful response.
+     */
+    private CompletableFuture<RestResponse> executeAsync(RestRequest request, long delay,
+                                                         RateController.Backoff backoff, Object event) {
+        final RestClient client = base().airtable().restClient();
+        if (client == null) {
+            return failedFuture(new AirtableException("Airtable is not configured or already closed"));
+        }
+
+        final long wait = delay + base().rateLimiter().reserve();
+        final long sent = System.nanoTime() + wait;
+        final RequestTrace trace = beforeRequest(request);
+        final CompletableFuture<RestResponse> result = new CompletableFuture<>();
+        client.executeAsync(request, wait).whenCompleteAsync((response, error) -> {
+            final Throwable cause = (error instanceof CompletionException && error.getCause() != null)
+                    ? error.getCause() : error;
+            final int status = (response != null) ? response.getStatus() : 0;
+            final long nanos = Math.max(0, System.nanoTime() - sent);
+            metrics().onAttempt(name, request.getOperation(), status, nanos,
+                    (response != null) ? response.getBodyLength() : 0);
+            afterResponse(trace, response, cause, nanos);
+
+            final long retryWait;
+            try {
+                retryWait = retryWait(request, response, cause, backoff);
+            } catch (AirtableException | RuntimeException e) {
+                completed(request, backoff, event, status);
+                result.completeExceptionally(e);
+                return;
+            }
+            if (retryWait >= 0) {
+                executeAsync(request, retryWait, backoff, event).whenComplete((value, retryError) -> {
+                    if (retryError != null) {
+                        result.completeExceptionally(retryError);
+                    } else {
+                        result.complete(value);
+                    }
+                });
+                return;
+            }
+
+            completed(request, backoff, event, status);
+            try {
+                if (cause != null) {
+                    result.completeExceptionally(new AirtableException(cause));
+                } else if (200 == response.getStatus()) {
+                    result.complete(response);
+                } else {
+                    HttpResponseExceptionHandler.onResponse(response.getStatus(), response.getBody());
+                }
+            } catch (AirtableException | RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        }, client.asyncExecutor()).whenComplete((ignored, error) -> {
+            // the response was not handled, e.g. because the executor rejected it
+            if (error != null && !result.isDone()) {
+                result.completeExceptionally(new AirtableException(error));
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * Create future completed exceptionally by given exception.
+     *
+     * @param e the exception.
+     * @return the failed future.
+     */
+    private static <R> CompletableFuture<R> failedFuture(Throwable e) {
+        final CompletableFuture<R> result = new CompletableFuture<>();
+        result.completeExceptionally(e);
+        return result;
+    }
+
+    /**
+     * Decoder of a successful response.
+     *
+     * @param <R> type of decoded response.
+     */
+    private interface ResponseDecoder<R> {
+        R decode(RestResponse response) throws AirtableException;
+    }
+
+    /**
+     * Create Records of given Items.
+     *
+     * The items are sent in batches of 10 records per request. If a batch
+     * has to be retried, only this batch is sent again. If a batch fails,
+     * no later batch is sent and a <code>BatchException</code> with the
+     * items created before is thrown.
+     *
+     * @param items the items to be created
+     * @return the created items in order of <code>items</code>
+     * @throws BatchException if a batch failed.
+     * @throws AirtableException
+     * @throws IllegalAccessException
+     * @throws InvocationTargetException
+     * @throws NoSuchMethodException
+     */
+    public List<T> createAll(final List<T> items) throws AirtableException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+
+        final List<PostRecord<T>> records = new ArrayList<>(items.size());
+        for (T item : items) {
+            checkProperties(item);
+
+            PostRecord<T> record = new PostRecord<>();
+            record.setFields(item);
+            records.add(record);
+        }
+
+        return writeAll(Method.POST, records);
+    }
+
+    /**
+     * Update given <code>items</code> in storage.
+     *
+     * The items are sent in batches of 10 records per request. If a batch
+     * has to be retried, only this batch is sent again. If a batch fails,
+     * no later batch is sent and a <code>BatchException</code> with the
+     * items updated before is thrown. The given items are not changed, so
+     * the remaining ones can be sent again.
+     *
+     * @param items Items to update.
+     * @return updated <code>items</code> returned by airtable in order of <code>items</code>.
+     * @throws BatchException if a batch failed.
+     * @throws AirtableException
+     * @throws IllegalAccessException
+     * @throws InvocationTargetException
+     * @throws NoSuchMethodException
+     */
+    public List<T> updateAll(final List<T> items) throws AirtableException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+
+        final List<PatchRecord<T>> records = new ArrayList<>(items.size());
+        for (T item : items) {
+            PatchRecord<T> record = new PatchRecord<>();
+            record.setId(getIdOfItem(item));
+            record.setFields(filterFields(copyOf(item)));
+            records.add(record);
+        }
+
+        return writeAll(Method.PATCH, records);
+    }
+
+    /**
+     * Delete Records by given ids.
+     *
+     * The ids are sent in batches of 10 records per request. If a batch
+     * has to be retried, only this batch is sent again. If a batch fails,
+     * no later batch is sent and a <code>BatchException</code> with the
+     * results of the ids deleted before is thrown.
+     *
+     * @param ids Ids of the rows to delete.
+     * @return for each id true if success, in order of <code>ids</code>.
+     * @throws BatchException if a batch failed.
+     * @throws AirtableException
+     */
+    public List<Boolean> destroyAll(final List<String> ids) throws AirtableException {
+
+        final List<Boolean> result = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            final List<String> chunk = ids.subList(from, Math.min(from + BATCH_SIZE, ids.size()));
+            final List<Delete> deleted;
+            try {
+                deleted = destroyChunk(chunk);
+            } catch (AirtableException e) {
+                throw batchFailure(e, result, from, chunk.size());
+            }
+            for (Delete delete : deleted) {
+                result.add(delete.isDeleted());
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Send records in batches of 10 records per request.
+     *
+     * @param method <code>POST</code> to create or <code>PATCH</code> to update records.
+     * @param records records to send.
+     * @return the returned items in order of <code>records</code>.
+     * @throws BatchException if a batch failed.
+     * @throws AirtableException
+     */
+    private <R extends PostRecord<T>> List<T> writeAll(Method method, List<R> records) throws AirtableException {
+
+        final List<T> result = new ArrayList<>(records.size());
+        for (int from = 0; from < records.size(); from += BATCH_SIZE) {
+            final List<R> chunk = records.subList(from, Math.min(from + BATCH_SIZE, records.size()));
+            final List<RecordItem> written;
+            try {
+                written = writeChunk(method, chunk);
+            } catch (AirtableException e) {
+                throw batchFailure(e, result, from, chunk.size());
+            }
+            for (RecordItem record : written) {
+                try {
+                    result.add(transform(record, mapper().newInstance()));
+                } catch (InvocationTargetException | IllegalAccessException | InstantiationException e) {
+                    throw new AirtableException(e);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Send one batch of up to 10 records.
+     *
+     * @param method <code>POST</code> to create or <code>PATCH</code> to update records.
+     * @param chunk records of the batch.
+     * @return the returned records.
+     * @throws AirtableException
+     */
+    private <R extends PostRecord<T>> List<RecordItem> writeChunk(Method method, List<R> chunk) throws AirtableException {
+
+        final PostRecords<R> body = new PostRecords<>();
+        body.setRecords(chunk);
+
+        final RestRequest request = newRequest((method == Method.POST) ? "create" : "update", method, getTableEndpointUrl())
+                .header("Content-type", MIME_TYPE_JSON)
+                .body(writeValue(body));
+        final RestResponse response = send(request);
+        for (R record : chunk) {
+            if (record instanceof PatchRecord) {
+                invalidate(((PatchRecord<T>) record).getId());
+            }
+        }
+
+        if (200 != response.getStatus()) {
+            HttpResponseExceptionHandler.onResponse(response.getStatus(), response.getBody());
+        }
+        return decode(request, response, r -> readValue(r, RecordItems.class).getRecords());
+    }
+
+    /**
+     * Delete one batch of up to 10 records.
+     *
+     * @param chunk ids of the batch.
+     * @return the deleted records.
+     * @throws AirtableException
+     */
+    private List<Delete> destroyChunk(List<String> chunk) throws AirtableException {
+
+        final RestRequest request = newRequest("destroy", Method.DELETE, getTableEndpointUrl());
+        for (String id : chunk) {
+            request.queryString("records[]", id);
+        }
+
+        final RestResponse response = send(request);
+        chunk.forEach(this::invalidate);
+
+        if (200 != response.getStatus()) {
+            HttpResponseExceptionHandler.onResponse(response.getStatus(), response.getBody());
+        }
+        return decode(request, response, r -> readValue(r, Deletes.class).getRecords());
+    }
+
+    /**
+     * Create exception of failed batch.
+     *
+     * @param cause error of the batch.
+     * @param completed results of the previous batches.
+     * @param from index of first record of the batch.
+     * @param size number of records of the batch.
+     * @return the exception to throw.
+     */
+    private static BatchException batchFailure(AirtableException cause, List<?> completed, int from, int size) {
+        return new BatchException("Batch of records " + from + " to " + (from + size - 1)
+                + " failed, previous batches were successful: " + cause.getMessage(), cause, completed, from);
+    }
+
     /**
      *
      * @return
@@ -707,6 +2157,7 @@ public class Table<T> {
     }
 
     /**
+     * Package-private to be measured by the benchmarks.
      *
      * @param record
      * @param retval
@@ -714,13 +2165,13 @@ public class Table<T> {
      * @throws IllegalAccessException
      * @throws InstantiationException
      */
-    private T transform(Map<String, Object> record, T retval) throws InvocationTargetException, IllegalAccessException {
-        for (String key : record.keySet()) {
-            if ("fields".equals(key)) {
+    T transform(Map<String, Object> record, T retval) throws InvocationTargetException, IllegalAccessException {
+        for (Map.Entry<String, Object> entry : record.entrySet()) {
+            if ("fields".equals(entry.getKey())) {
                 //noinspection unchecked
-                retval = transform((Map<String, Object>) record.get("fields"), retval);
+                retval = transform((Map<String, Object>) entry.getValue(), retval);
             } else {
-                setProperty(retval, key, record.get(key));
+                setProperty(retval, entry.getKey(), entry.getValue());
             }
         }
 
@@ -754,28 +2205,7 @@ public class Table<T> {
      * @throws IllegalArgumentException when key cannot be matched to any field of retval
      */
     private void setProperty(T retval, String key, Object value) throws IllegalAccessException, InvocationTargetException, IllegalArgumentException {
-        String property = key2property(key);
-
-        boolean foundSerializedNameAnnotation = false;
-
-        for (final Field f : this.type.getDeclaredFields()) {
-            final SerializedName annotation = f.getAnnotation(SerializedName.class);
-
-            if (annotation != null && property.equalsIgnoreCase(annotation.value())) {
-                property = f.getName();
-                foundSerializedNameAnnotation = true;
-                break;
-            }
-        }
-
-        if (propertyExists(retval, property)) {
-            BeanUtils.setProperty(retval, property, value);
-        } else {
-            if(!foundSerializedNameAnnotation && !SourceVersion.isName(property))
-                LOG.error(String.format("Key '%s' contains illegal characters for a java identifier, but no field with a matching @SerializedName is present for type %s.", property, this.type.getName()));
-
-            throw new IllegalArgumentException(this.type.getName() + " does not have a property corresponding to [" + property + "]");
-        }
+        mapper().setProperty(retval, key, value);
     }
 
     /**
@@ -785,15 +2215,23 @@ public class Table<T> {
      * @return
      */
     String key2property(final String key) {
-        
-        if(key == null || key.isEmpty()) {
-            throw new IllegalArgumentException("Key was null or empty.");
-        }
-
-        String property = key.trim();
-        property = property.substring(0, 1).toLowerCase() + property.substring(1, property.length());
+        return RecordMapper.key2property(key);
+    }
 
-        return property;
+    /**
+     * Get the mapper of records to <code>type</code>.
+     *
+     * The mapper is created on first use.
+     *
+     * @return mapper of records.
+     */
+    private RecordMapper<T> mapper() {
+        RecordMapper<T> result = this.mapper;
+        if (result == null) {
+            result = new RecordMapper<>(this.type);
+            this.mapper = result;
+        }
+        return result;
     }
 
     /**
@@ -0,0 +1,392 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import com.sybit.airtable.exception.AirtableException;
+import com.sybit.airtable.exception.UncheckedAirtableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Local mirror of a table in a memory-mapped snapshot file.
+ *
+ * <code>refresh</code> downloads all records by <code>select</code> into a
+ * new snapshot file, which atomically replaces the previous one. After a
+ * restart <code>load</code> maps the existing snapshot, so the records are
+ * available without a request to Airtable. Reads are answered from the
+ * mapped file and decoded by the mapping of the table on each access, so the
+ * records are not held in heap.
+ *
+ * The snapshot consists of a header, the records as JSON of the API, each
+ * referenced by an index entry, and the index sorted by id for binary
+ * search. Snapshots are limited to 2 GB.
+ *
+ * <pre>
+ * TableMirror&lt;Movie&gt; mirror = new TableMirror&lt;&gt;(movieTable, Paths.get("movies.snapshot"));
+ * if (!mirror.load()) {
+ *     mirror.refresh();
+ * }
+ * Movie movie = mirror.find("rec...");
+ * </pre>
+ *
+ * @param <T> class representing a row of the table.
+ * @since 0.3
+ */
+public class TableMirror<T> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TableMirror.class);
+
+    private static final int MAGIC = 0x4154534E;
+    private static final int VERSION = 1;
+
+    /**
+     * Magic, version, number of records, creation time and position of the index.
+     */
+    private static final int HEADER_SIZE = 4 + 4 + 4 + 8 + 8;
+
+    /**
+     * Maximum length of an id in bytes.
+     */
+    private static final int MAX_ID_LENGTH = 23;
+
+    /**
+     * Length and bytes of id, position and length of the record.
+     */
+    private static final int ENTRY_SIZE = 1 + MAX_ID_LENGTH + 8 + 4;
+
+    private final Table<T> table;
+
+    private final Path file;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * Create mirror of table.
+     *
+     * @param table table to mirror.
+     * @param file snapshot file.
+     */
+    public TableMirror(Table<T> table, Path file) {
+        this.table = table;
+        this.file = file;
+    }
+
+    /**
+     * Map the existing snapshot file.
+     *
+     * @return <code>true</code> if loaded, <code>false</code> if there is no snapshot.
+     * @throws AirtableException if the file could not be read or is no snapshot.
+     */
+    public synchronized boolean load() throws AirtableException {
+        if (!Files.exists(file)) {
+            return false;
+        }
+        try {
+            snapshot = Snapshot.map(file);
+        } catch (IOException e) {
+            throw new AirtableException(e);
+        }
+        return true;
+    }
+
+    /**
+     * Download all records into a new snapshot and replace the current one.
+     *
+     * The new snapshot is written to a temporary file next to the snapshot
+     * file, which is moved to the snapshot file when complete. Readers see
+     * the previous snapshot until then.
+     *
+     * @return number of records of the new snapshot.
+     * @throws AirtableException if the records could not be loaded or written.
+     */
+    public synchronized int refresh() throws AirtableException {
+        final Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        final long created = System.currentTimeMillis();
+        try {
+            final int count = write(temp, created);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            snapshot = Snapshot.map(file);
+            LOG.debug("Wrote snapshot of {} records to {}", count, file);
+            return count;
+        } catch (IOException e) {
+            throw new AirtableException(e);
+        } catch (UncheckedAirtableException e) {
+            throw e.getCause();
+        } finally {
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException e) {
+                LOG.warn("Deleting {} failed: {}", temp, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Write all records of the table to a snapshot file.
+     *
+     * @param target the file.
+     * @param created creation time of the snapshot.
+     * @return number of records.
+     * @throws IOException if the file could not be written.
+     * @throws AirtableException if an id is too long or the snapshot too large.
+     */
+    private int write(Path target, long created) throws IOException, AirtableException {
+        final List<IndexEntry> index = new ArrayList<>();
+        long position = HEADER_SIZE;
+
+        try (OutputStream file = Files.newOutputStream(target);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file, 65536))) {
+            out.write(new byte[HEADER_SIZE]);
+
+            for (Iterator<Map<String, Object>> it = table.rawIterator(Table.formulaQuery(null, null)); it.hasNext(); ) {
+                final Map<String, Object> record = it.next();
+                final byte[] id = String.valueOf(record.get("id")).getBytes(StandardCharsets.US_ASCII);
+                if (id.length > MAX_ID_LENGTH) {
+                    throw new AirtableException("id of record is longer than " + MAX_ID_LENGTH + ": " + record.get("id"));
+                }
+                final byte[] content = table.writeValue(record).getBytes(StandardCharsets.UTF_8);
+                index.add(new IndexEntry(new String(id, StandardCharsets.US_ASCII), position, content.length));
+                out.write(content);
+                position += content.length;
+            }
+
+            index.sort((a, b) -> a.id.compareTo(b.id));
+            final long indexPosition = position;
+            for (IndexEntry entry : index) {
+                final byte[] id = entry.id.getBytes(StandardCharsets.US_ASCII);
+                out.writeByte(id.length);
+                out.write(id);
+                out.write(new byte[MAX_ID_LENGTH - id.length]);
+                out.writeLong(entry.position);
+                out.writeInt(entry.length);
+            }
+            if (indexPosition + (long) index.size() * ENTRY_SIZE > Integer.MAX_VALUE) {
+                throw new AirtableException("snapshot exceeds 2 GB");
+            }
+            out.flush();
+
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                    .putInt(MAGIC).putInt(VERSION).putInt(index.size()).putLong(created).putLong(indexPosition);
+            header.flip();
+            try (FileChannel channel = FileChannel.open(target, StandardOpenOption.WRITE)) {
+                channel.write(header, 0);
+                channel.force(true);
+            }
+        }
+        return index.size();
+    }
+
+    /**
+     * Find record in the current snapshot.
+     *
+     * @param id id of record.
+     * @return the record or <code>null</code> if not in the snapshot.
+     * @throws AirtableException if no snapshot is loaded or the record could not be decoded.
+     */
+    public T find(String id) throws AirtableException {
+        final Snapshot current = current();
+        final int index = current.indexOf(id);
+        return (index < 0) ? null : table.decodeRecord(current.record(index));
+    }
+
+    /**
+     * Stream all records of the current snapshot in order of their ids.
+     * Errors during decoding are thrown as {@link UncheckedAirtableException}.
+     *
+     * @return sequential stream of records.
+     * @throws AirtableException if no snapshot is loaded.
+     */
+    public Stream<T> stream() throws AirtableException {
+        final Snapshot current = current();
+        return IntStream.range(0, current.count).mapToObj(index -> {
+            try {
+                return table.decodeRecord(current.record(index));
+            } catch (AirtableException e) {
+                throw new UncheckedAirtableException(e);
+            }
+        });
+    }
+
+    /**
+     * @return number of records of the current snapshot, 0 if no snapshot is loaded.
+     */
+    public int size() {
+        final Snapshot current = snapshot;
+        return (current != null) ? current.count : 0;
+    }
+
+    /**
+     * @return creation time of the current snapshot or <code>null</code> if no snapshot is loaded.
+     */
+    public Date getSnapshotTime() {
+        final Snapshot current = snapshot;
+        return (current != null) ? new Date(current.created) : null;
+    }
+
+    private Snapshot current() throws AirtableException {
+        final Snapshot current = snapshot;
+        if (current == null) {
+            throw new AirtableException("No snapshot loaded, call load() or refresh() first");
+        }
+        return current;
+    }
+
+    /**
+     * Position and length of a record in the snapshot.
+     */
+    private static final class IndexEntry {
+
+        private final String id;
+
+        private final long position;
+
+        private final int length;
+
+        IndexEntry(String id, long position, int length) {
+            this.id = id;
+            this.position = position;
+            this.length = length;
+        }
+    }
+
+    /**
+     * Mapped snapshot file. Only absolute reads are used on the shared
+     * buffer, so a snapshot is read by several threads concurrently.
+     */
+    private static final class Snapshot {
+
+        private final MappedByteBuffer buffer;
+
+        private final int count;
+
+        private final long created;
+
+        private final int index;
+
+        private Snapshot(MappedByteBuffer buffer) throws IOException {
+            if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+                throw new IOException("not a snapshot file");
+            }
+            if (buffer.getInt(4) != VERSION) {
+                throw new IOException("unsupported snapshot version " + buffer.getInt(4));
+            }
+            this.buffer = buffer;
+            this.count = buffer.getInt(8);
+            this.created = buffer.getLong(12);
+            this.index = (int) buffer.getLong(20);
+            if ((long) index + (long) count * ENTRY_SIZE != buffer.capacity()) {
+                throw new IOException("incomplete snapshot file");
+            }
+        }
+
+        static Snapshot map(Path file) throws IOException {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                if (channel.size() > Integer.MAX_VALUE) {
+                    throw new IOException("snapshot exceeds 2 GB");
+                }
+                return new Snapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+            }
+        }
+
+        /**
+         * Binary search of id in the index.
+         *
+         * @param id id of record.
+         * @return position in the index or -1 if not found.
+         */
+        int indexOf(String id) {
+            int low = 0;
+            int high = count - 1;
+            while (low <= high) {
+                final int middle = (low + high) >>> 1;
+                final int compared = id(middle).compareTo(id);
+                if (compared < 0) {
+                    low = middle + 1;
+                } else if (compared > 0) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+            return -1;
+        }
+
+        private String id(int entry) {
+            final int position = index + entry * ENTRY_SIZE;
+            final byte[] id = new byte[buffer.get(position)];
+            for (int i = 0; i < id.length; i++) {
+                id[i] = buffer.get(position + 1 + i);
+            }
+            return new String(id, StandardCharsets.US_ASCII);
+        }
+
+        /**
+         * @param entry position in the index.
+         * @return stream of the record read directly from the mapped file.
+         */
+        InputStream record(int entry) {
+            final int position = index + entry * ENTRY_SIZE + 1 + MAX_ID_LENGTH;
+            final ByteBuffer content = buffer.duplicate();
+            content.position((int) buffer.getLong(position));
+            content.limit(content.position() + buffer.getInt(position + 8));
+            return new ByteBufferInputStream(content);
+        }
+    }
+
+    /**
+     * Stream of the remaining bytes of a buffer.
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            final int read = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, read);
+            return read;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import com.sybit.airtable.exception.AirtableException;
+import com.sybit.airtable.exception.UncheckedAirtableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Incremental sync of a table into a <code>SyncSink</code>.
+ *
+ * The first sync loads all records. Each following sync loads only records
+ * modified after the high-water mark of the sink, selected by
+ * <code>IS_AFTER(LAST_MODIFIED_TIME(),...)</code>. The mark is the start
+ * time of the sync on the local clock, so it is moved back by an overlap to
+ * tolerate clock skew; records within the overlap are passed again.
+ *
+ * Deleted records are not reported by <code>LAST_MODIFIED_TIME()</code>.
+ * They are detected by a scan of ids only, which runs at most once per
+ * deletion scan interval and compares the ids of the table with the ids of
+ * the sink.
+ *
+ * <pre>
+ * TableSync&lt;Movie&gt; sync = new TableSync&lt;&gt;(movieTable, sink);
+ * sync.setDeletionScanInterval(1, TimeUnit.DAYS);
+ * sync.sync();
+ * </pre>
+ *
+ * @param <T> class representing a row of the table.
+ * @since 0.3
+ */
+public class TableSync<T> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TableSync.class);
+
+    /**
+     * Default overlap of syncs in milliseconds.
+     */
+    public static final long OVERLAP = 60000;
+
+    private final Table<T> table;
+
+    private final SyncSink<T> sink;
+
+    private final LongSupplier clock;
+
+    private long overlap = OVERLAP;
+
+    private long deletionScanInterval = -1;
+
+    private long lastDeletionScan;
+
+    private boolean deletionScanned;
+
+    /**
+     * Create sync of table.
+     *
+     * @param table table to sync.
+     * @param sink local copy of the table.
+     */
+    public TableSync(Table<T> table, SyncSink<T> sink) {
+        this(table, sink, System::currentTimeMillis);
+    }
+
+    /**
+     * Create sync of table with given clock.
+     *
+     * @param table table to sync.
+     * @param sink local copy of the table.
+     * @param clock clock in milliseconds since epoch.
+     */
+    TableSync(Table<T> table, SyncSink<T> sink, LongSupplier clock) {
+        this.table = table;
+        this.sink = sink;
+        this.clock = clock;
+    }
+
+    /**
+     * Set time the high-water mark is moved back. Default is one minute.
+     *
+     * @param overlap tolerated clock skew between client and Airtable.
+     * @param unit unit of <code>overlap</code>.
+     */
+    public synchronized void setOverlap(long overlap, TimeUnit unit) {
+        if (overlap < 0) {
+            throw new IllegalArgumentException("overlap must not be negative but was " + overlap);
+        }
+        this.overlap = unit.toMillis(overlap);
+    }
+
+    /**
+     * Set minimum time between scans for deleted records. By default no
+     * deleted records are detected by <code>sync</code>.
+     *
+     * @param interval minimum time between scans, 0 to scan on each sync.
+     * @param unit unit of <code>interval</code>.
+     */
+    public synchronized void setDeletionScanInterval(long interval, TimeUnit unit) {
+        if (interval < 0) {
+            throw new IllegalArgumentException("interval must not be negative but was " + interval);
+        }
+        this.deletionScanInterval = unit.toMillis(interval);
+    }
+
+    /**
+     * Pass records modified since the last sync to the sink and detect
+     * deleted records, if the deletion scan interval elapsed.
+     *
+     * @return number of records passed to the sink.
+     * @throws AirtableException
+     */
+    public synchronized int sync() throws AirtableException {
+        final Date mark = sink.getHighWaterMark();
+        final long started = clock.getAsLong();
+        final String formula = (mark == null) ? null
+                : "IS_AFTER(LAST_MODIFIED_TIME()," + Table.formulaValue(new Date(mark.getTime() - overlap)) + ")";
+
+        final Set<String> ids = (mark == null) ? new HashSet<>() : null;
+        int changed = 0;
+        try {
+            for (Iterator<T> it = table.iterator(query(formula, null)); it.hasNext(); ) {
+                final T record = it.next();
+                final String id = table.idOf(record);
+                sink.upsert(id, record);
+                if (ids != null) {
+                    ids.add(id);
+                }
+                changed++;
+            }
+        } catch (UncheckedAirtableException e) {
+            throw e.getCause();
+        }
+
+        if (ids != null) {
+            // the full load has seen all ids
+            deleteMissing(ids);
+            markDeletionScan(started);
+        } else if (isDeletionScanDue(started)) {
+            detectDeletions();
+        }
+
+        sink.setHighWaterMark(new Date(started));
+        LOG.debug("Synced {} changed records", changed);
+        return changed;
+    }
+
+    /**
+     * Scan the ids of all records of the table and remove records of the
+     * sink, which were deleted in Airtable. The scan requests no fields, so
+     * it costs one request per 100 records, but little traffic.
+     *
+     * @return number of records removed from the sink.
+     * @throws AirtableException
+     */
+    public synchronized int detectDeletions() throws AirtableException {
+        final long started = clock.getAsLong();
+        final Set<String> ids = new HashSet<>();
+        try {
+            for (Iterator<T> it = table.iterator(query(null, new String[]{""})); it.hasNext(); ) {
+                ids.add(table.idOf(it.next()));
+            }
+        } catch (UncheckedAirtableException e) {
+            throw e.getCause();
+        }
+
+        markDeletionScan(started);
+        return deleteMissing(ids);
+    }
+
+    /**
+     * Remove records of the sink not found in the table.
+     *
+     * @param ids ids of all records of the table.
+     * @return number of records removed.
+     */
+    private int deleteMissing(Set<String> ids) {
+        final List<String> deleted = new ArrayList<>();
+        for (String id : sink.ids()) {
+            if (!ids.contains(id)) {
+                deleted.add(id);
+            }
+        }
+        for (String id : deleted) {
+            sink.delete(id);
+        }
+        return deleted.size();
+    }
+
+    private boolean isDeletionScanDue(long now) {
+        return deletionScanInterval >= 0 && (!deletionScanned || now - lastDeletionScan >= deletionScanInterval);
+    }
+
+    private void markDeletionScan(long now) {
+        deletionScanned = true;
+        lastDeletionScan = now;
+    }
+
+    /**
+     * Create query of all records.
+     *
+     * @param formula formula or <code>null</code> for all records.
+     * @param fields fields to load or <code>null</code> for all fields.
+     * @return the query.
+     */
+    private static Query query(final String formula, final String[] fields) {
+        return new Query() {
+            @Override
+            public Integer getMaxRecords() {
+                return null;
+            }
+
+            @Override
+            public String getView() {
+                return null;
+            }
+
+            @Override
+            public List<Sort> getSort() {
+                return null;
+            }
+
+            @Override
+            public String filterByFormula() {
+                return formula;
+            }
+
+            @Override
+            public String[] getFields() {
+                return fields;
+            }
+
+            @Override
+            public Integer getPageSize() {
+                return null;
+            }
+
+            @Override
+            public String getOffset() {
+                return null;
+            }
+        };
+    }
+}
@@ -40,6 +40,16 @@ public class AirtableException extends Exception {
         }
     }
 
+    /**
+     * Constructs a new exception with the specified detail message and cause.
+     * @param message Detail message.
+     * @param cause the cause (which is saved for later retrieval by the
+     *         {@link #getCause()} method).
+     */
+    public AirtableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
     /**
      * Default Exception simmilar to AirtableError of JavaScript Library.
      * @param error Error code.
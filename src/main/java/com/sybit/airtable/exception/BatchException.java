@@ -0,0 +1,61 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable.exception;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Thrown if a batch of <code>createAll</code>, <code>updateAll</code> or
+ * <code>destroyAll</code> failed. The batches before were successful, their
+ * results are kept, so the remaining records can be sent again without the
+ * completed ones:
+ *
+ * <pre>
+ * table.updateAll(items.subList(e.getFailedIndex(), items.size()));
+ * </pre>
+ *
+ * @since 0.3
+ */
+public class BatchException extends AirtableException {
+
+    private final List<?> completed;
+
+    private final int failedIndex;
+
+    /**
+     * Constructs a new exception.
+     * @param message Detail message.
+     * @param cause Error of the failed batch.
+     * @param completed Results of the successful batches.
+     * @param failedIndex Index of the first record of the failed batch.
+     */
+    public BatchException(String message, Throwable cause, List<?> completed, int failedIndex) {
+        super(message, cause);
+        this.completed = Collections.unmodifiableList(completed);
+        this.failedIndex = failedIndex;
+    }
+
+    /**
+     * Get results of the successful batches in order of the given records:
+     * the created or updated items of <code>createAll</code> and
+     * <code>updateAll</code>, the flags of <code>destroyAll</code>.
+     * @return results of the records before the failed batch.
+     */
+    public List<?> getCompleted() {
+        return completed;
+    }
+
+    /**
+     * Get index of the first record of the failed batch, which is the
+     * number of completed records. No later batch was sent.
+     * @return index of the first record not completed.
+     */
+    public int getFailedIndex() {
+        return failedIndex;
+    }
+}
@@ -20,9 +20,20 @@ import java.util.Map;
 public class HttpResponseExceptionHandler {
 
     public static void onResponse(HttpResponse response) throws AirtableException {
+        onResponse(response.getStatus(), response.getRawBody());
+    }
+
+    /**
+     * Create exception of failed response.
+     *
+     * @param statusCode HTTP status code of response.
+     * @param body content of response.
+     * @throws AirtableException always
+     * @since 0.3
+     */
+    public static void onResponse(Integer statusCode, java.io.InputStream body) throws AirtableException {
 
-        final Integer statusCode = response.getStatus();
-        String message = convertStreamToString(response.getRawBody());
+        String message = convertStreamToString(body);
 
         Error err = extractError(message);
 
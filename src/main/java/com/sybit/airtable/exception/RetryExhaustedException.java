@@ -0,0 +1,47 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable.exception;
+
+/**
+ * Thrown if a request failed and is not retried anymore, because the maximum
+ * number of attempts, the maximum retry time or the retry budget of the
+ * <code>RetryPolicy</code> is exhausted.
+ *
+ * @since 0.3
+ */
+public class RetryExhaustedException extends AirtableException {
+
+    private final int attempts;
+
+    /**
+     * Constructs a new exception.
+     * @param message Detail message.
+     * @param attempts Number of attempts sent.
+     */
+    public RetryExhaustedException(String message, int attempts) {
+        this(message, attempts, null);
+    }
+
+    /**
+     * Constructs a new exception with the error of the last attempt.
+     * @param message Detail message.
+     * @param attempts Number of attempts sent.
+     * @param cause Error of the last attempt, could be <code>null</code>.
+     */
+    public RetryExhaustedException(String message, int attempts, Throwable cause) {
+        super(message + " [" + attempts + " attempts]", cause);
+        this.attempts = attempts;
+    }
+
+    /**
+     * Get number of attempts sent, including the first one.
+     * @return number of attempts.
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+}
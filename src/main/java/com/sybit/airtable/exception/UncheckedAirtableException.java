@@ -0,0 +1,36 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable.exception;
+
+/**
+ * Wraps an <code>AirtableException</code> with an unchecked exception.
+ *
+ * Used where the API hands out records lazily, e.g. by
+ * <code>java.util.Iterator</code> or <code>java.util.stream.Stream</code>,
+ * which do not allow checked exceptions.
+ *
+ * @since 0.3
+ */
+public class UncheckedAirtableException extends RuntimeException {
+
+    /**
+     * Constructs an instance of this class.
+     * @param cause the <code>AirtableException</code>.
+     */
+    public UncheckedAirtableException(AirtableException cause) {
+        super(cause);
+    }
+
+    /**
+     * Returns the cause of this exception.
+     * @return the <code>AirtableException</code> which is the cause of this exception.
+     */
+    @Override
+    public synchronized AirtableException getCause() {
+        return (AirtableException) super.getCause();
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable.vo;
+
+
+/**
+ * Record of a batch update, identified by its id.
+ *
+ * @param <T>
+ * @since 0.3
+ */
+public class PatchRecord<T> extends PostRecord<T> {
+
+    private String id;
+
+    /**
+     * @return the id
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * @param id the id to set
+     */
+    public void setId(String id) {
+        this.id = id;
+    }
+}
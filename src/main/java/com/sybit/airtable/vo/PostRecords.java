@@ -0,0 +1,34 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable.vo;
+
+import java.util.List;
+
+/**
+ * Body of a batch create or update of up to 10 records.
+ *
+ * @param <R> <code>PostRecord</code> or <code>PatchRecord</code>
+ * @since 0.3
+ */
+public class PostRecords<R extends PostRecord<?>> {
+
+    private List<R> records;
+
+    /**
+     * @return the records
+     */
+    public List<R> getRecords() {
+        return records;
+    }
+
+    /**
+     * @param records the records to set
+     */
+    public void setRecords(List<R> records) {
+        this.records = records;
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable.vo;
+
+import java.util.List;
+
+/**
+ * Response of a batch create or update.
+ *
+ * @since 0.3
+ */
+public class RecordItems {
+
+    private List<RecordItem> records;
+
+    public List<RecordItem> getRecords() {
+        return records;
+    }
+
+    public void setRecords(List<RecordItem> records) {
+        this.records = records;
+    }
+}
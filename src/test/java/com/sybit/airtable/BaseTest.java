@@ -7,11 +7,20 @@
 package com.sybit.airtable;
 
 import com.sybit.airtable.exception.AirtableException;
+import com.sybit.airtable.movies.Movie;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 
 /**
  *
@@ -51,6 +60,35 @@ public class BaseTest {
         assertEquals(base.name(),"base");
     }
 
+    @Test
+    public void tableTest(){
+
+        Base base = new Base("base", this.airtable);
+        Table<Movie> movies = base.table("Movies", Movie.class);
+        assertSame(movies, base.table("Movies", Movie.class));
+        assertNotSame(movies, base.table("Movies"));
+        assertNotSame(movies, base.table("Actors", Movie.class));
+    }
+
+    @Test
+    public void concurrentTableTest() throws Exception {
+
+        final Base base = new Base("base", this.airtable);
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<Table<Movie>>> tables = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                final String name = "Table " + (i % 10);
+                tables.add(executor.submit(() -> base.table(name, Movie.class)));
+            }
+            for (int i = 0; i < tables.size(); i++) {
+                assertSame(tables.get(i % 10).get(), tables.get(i).get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @Test(expected = java.lang.AssertionError.class )
     public void baseAssertationTest() {
         Base base = new Base(null,null);
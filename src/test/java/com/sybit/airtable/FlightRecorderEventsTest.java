@@ -0,0 +1,80 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import com.sybit.airtable.mock.AirtableSimulator;
+import com.sybit.airtable.movies.Movie;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ */
+public class FlightRecorderEventsTest {
+
+    @Test
+    public void recordsRequestsAndMappings() throws Exception {
+        final Path file = Files.createTempFile("airtable", ".jfr");
+        try (AirtableSimulator simulator = new AirtableSimulator()
+                .table("appSimulated", "Movies", 150, i -> Collections.singletonMap("Name", "Movie " + i))
+                .requestsPerSecond(0)
+                .start();
+             Airtable airtable = simulator.newAirtable();
+             Recording recording = new Recording()) {
+            recording.enable("com.sybit.airtable.Request").withThreshold(java.time.Duration.ZERO);
+            recording.enable("com.sybit.airtable.Mapping").withThreshold(java.time.Duration.ZERO);
+
+            final Table<Movie> movies = airtable.base("appSimulated").table("Movies", Movie.class);
+
+            recording.start();
+            simulator.fail(1, 503);
+            movies.select();
+            recording.stop();
+            recording.dump(file);
+
+            final List<RecordedEvent> requests = new ArrayList<>();
+            final List<RecordedEvent> mappings = new ArrayList<>();
+            for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+                if (event.getEventType().getName().equals("com.sybit.airtable.Request")) {
+                    requests.add(event);
+                } else if (event.getEventType().getName().equals("com.sybit.airtable.Mapping")) {
+                    mappings.add(event);
+                }
+            }
+
+            assertEquals(2, requests.size());
+            final RecordedEvent first = requests.get(0);
+            assertEquals("Movies", first.getString("table"));
+            assertEquals("select", first.getString("operation"));
+            assertEquals("GET", first.getString("method"));
+            assertEquals(200, first.getInt("status"));
+            assertEquals(1, first.getInt("retries"));
+            assertNull(first.getString("pageOffset"));
+            assertTrue(requests.get(1).getString("pageOffset").startsWith("itr100/"));
+            assertEquals(0, requests.get(1).getInt("retries"));
+
+            assertEquals(2, mappings.size());
+            assertEquals(Movie.class.getName(), mappings.get(0).getClass("type").getName());
+            assertEquals(100, mappings.get(0).getInt("records"));
+            assertEquals(50, mappings.get(1).getInt("records"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
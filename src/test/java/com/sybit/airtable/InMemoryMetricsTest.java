@@ -0,0 +1,110 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import com.sybit.airtable.exception.AirtableException;
+import com.sybit.airtable.mock.AirtableSimulator;
+import com.sybit.airtable.movies.Movie;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ *
+ */
+public class InMemoryMetricsTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    public void percentilesWithinBucketError() {
+        final InMemoryMetrics metrics = new InMemoryMetrics();
+        for (int i = 1; i <= 1000; i++) {
+            metrics.onRequest("Movies", "select", i * MILLIS, i % 100 != 0);
+        }
+
+        final InMemoryMetrics.Snapshot snapshot = metrics.getSnapshot("select");
+        assertEquals(1000, snapshot.getCount());
+        assertEquals(10, snapshot.getErrors());
+        assertEquals(1000 * MILLIS, snapshot.getMax());
+        assertEquals(500.5 * MILLIS, snapshot.getMean(), MILLIS);
+        assertEquals(500 * MILLIS, snapshot.getPercentile(50), 500 * MILLIS / 8);
+        assertEquals(990 * MILLIS, snapshot.getPercentile(99), 990 * MILLIS / 8);
+        assertEquals(1000 * MILLIS, snapshot.getPercentile(100));
+        assertTrue(snapshot.getPercentile(0) <= 2 * MILLIS);
+    }
+
+    @Test
+    public void bucketsCoverAllValues() {
+        long previous = -1;
+        for (int i = 0; i < 496; i++) {
+            final long upper = InMemoryMetrics.Histogram.upperBound(i);
+            if (upper == Long.MAX_VALUE) {
+                break;
+            }
+            assertTrue(upper > previous);
+            assertEquals(i, InMemoryMetrics.Histogram.index(upper / 1000));
+            previous = upper;
+        }
+        assertTrue(InMemoryMetrics.Histogram.index(Long.MAX_VALUE / 1000) < 496);
+    }
+
+    @Test
+    public void emptySnapshot() {
+        final InMemoryMetrics.Snapshot snapshot = new InMemoryMetrics().getSnapshot("find");
+
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0, snapshot.getPercentile(99));
+        assertEquals(0, snapshot.getMax());
+    }
+
+    @Test
+    public void recordsRequestsOfTable() throws Exception {
+        final InMemoryMetrics metrics = new InMemoryMetrics();
+        try (AirtableSimulator simulator = new AirtableSimulator()
+                .table("appSimulated", "Movies", 250, i -> Collections.singletonMap("Name", "Movie " + i))
+                .requestsPerSecond(0)
+                .start();
+             Airtable airtable = simulator.newAirtable(config -> {
+                 config.setRetryPolicy(new RetryPolicy());
+                 config.setMetricsListener(metrics);
+             })) {
+            final Table<Movie> movies = airtable.base("appSimulated").table("Movies", Movie.class);
+
+            final String id = movies.select().get(0).getId();
+            assertEquals(3, metrics.getSnapshot("select").getCount());
+            assertEquals(250, metrics.getRecordsDecoded());
+
+            simulator.fail(1, 503);
+            movies.find(id);
+            assertEquals(1, metrics.getSnapshot("find").getCount());
+            assertEquals(0, metrics.getSnapshot("find").getErrors());
+            assertEquals(1, metrics.getRetries());
+            assertEquals(Long.valueOf(1), metrics.getStatusCounts().get(503));
+            assertEquals(Long.valueOf(4), metrics.getStatusCounts().get(200));
+
+            try {
+                movies.find("recNotExisting00");
+                fail("AirtableException expected");
+            } catch (AirtableException e) {
+                assertEquals(1, metrics.getSnapshot("find").getErrors());
+            }
+
+            movies.destroyAsync(id).get();
+            assertEquals(1, metrics.getSnapshot("destroy").getCount());
+            assertEquals(0, metrics.getRateLimited());
+            assertTrue(metrics.getBytesReceived() > 250 * 20);
+            assertTrue(metrics.getNetworkTime() > 0);
+            assertTrue(metrics.getMappingTime() > 0);
+        }
+    }
+}
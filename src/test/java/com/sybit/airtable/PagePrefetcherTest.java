@@ -0,0 +1,74 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import com.sybit.airtable.exception.AirtableException;
+import com.sybit.airtable.exception.UncheckedAirtableException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ *
+ */
+public class PagePrefetcherTest {
+
+    /**
+     * Three pages with offsets "1" and "2".
+     */
+    private static RecordPage<String> page(String offset) {
+        if (offset == null) {
+            return new RecordPage<>(Arrays.asList("a", "b"), "1");
+        } else if ("1".equals(offset)) {
+            return new RecordPage<>(Arrays.asList("c", "d"), "2");
+        } else {
+            return new RecordPage<>(Arrays.asList("e"), null);
+        }
+    }
+
+    @Test
+    public void prefetchAllPagesInOrder() {
+
+        final List<String> result = new ArrayList<>();
+        try (PagePrefetcher<String> prefetcher = new PagePrefetcher<>(PagePrefetcherTest::page, null, 2, "test")) {
+            new PageIterator<>(prefetcher, null).forEachRemaining(result::add);
+        }
+
+        assertEquals(Arrays.asList("a", "b", "c", "d", "e"), result);
+    }
+
+    @Test
+    public void errorOfPageIsPassedToConsumer() {
+
+        final List<String> result = new ArrayList<>();
+        final PageIterator.PageLoader<String> loader = offset -> {
+            if ("1".equals(offset)) {
+                throw new AirtableException("failed");
+            }
+            return page(offset);
+        };
+
+        try (PagePrefetcher<String> prefetcher = new PagePrefetcher<>(loader, null, 1, "test")) {
+            new PageIterator<>(prefetcher, null).forEachRemaining(result::add);
+            fail("expected exception");
+        } catch (UncheckedAirtableException e) {
+            assertEquals("failed", e.getCause().getMessage());
+        }
+
+        assertEquals(Arrays.asList("a", "b"), result);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void prefetchPagesLimited() {
+        new PagePrefetcher<>(PagePrefetcherTest::page, null, 4, "test");
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import com.sybit.airtable.exception.AirtableException;
+import com.sybit.airtable.exception.RetryExhaustedException;
+import com.sybit.airtable.mock.AirtableSimulator;
+import com.sybit.airtable.movies.Movie;
+import org.apache.http.client.utils.DateUtils;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ *
+ */
+public class RateControllerTest {
+
+    private static final long SECONDS = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    public void decreasesRateMultiplicativelyOncePerInterval() throws AirtableException {
+        final AtomicLong clock = new AtomicLong();
+        final RateLimiter limiter = new RateLimiter(8, 1, clock::get);
+        final RateController controller = new RateController(limiter, clock::get);
+
+        controller.onRateLimited();
+        assertEquals(4, limiter.getRate(), 0.001);
+        controller.onRateLimited();
+        assertEquals(4, limiter.getRate(), 0.001);
+
+        clock.addAndGet(SECONDS);
+        controller.onRateLimited();
+        assertEquals(2, limiter.getRate(), 0.001);
+
+        for (int i = 0; i < 10; i++) {
+            clock.addAndGet(SECONDS);
+            controller.onRateLimited();
+        }
+        assertEquals(8 * RateController.MIN_RATE, limiter.getRate(), 0.001);
+    }
+
+    @Test
+    public void increasesRateAdditivelyUpToConfiguredRate() {
+        final AtomicLong clock = new AtomicLong();
+        final RateLimiter limiter = new RateLimiter(10, 1, clock::get);
+        final RateController controller = new RateController(limiter, clock::get);
+
+        controller.onRateLimited();
+        controller.onSuccess();
+        assertEquals(5.2, limiter.getRate(), 0.001);
+
+        for (int i = 0; i < 100; i++) {
+            controller.onSuccess();
+        }
+        assertEquals(10, limiter.getRate(), 0.001);
+    }
+
+    @Test
+    public void honoursRetryAfter() throws AirtableException {
+        final AtomicLong clock = new AtomicLong();
+        final RateController controller = new RateController(new RateLimiter(5, 1, clock::get), clock::get);
+
+        final RateController.Backoff backoff = controller.newBackoff(new RetryPolicy(10, 60000, 0.2));
+        assertEquals(7 * SECONDS, backoff.onRateLimited(response("7")));
+
+        assertEquals(-1, RateController.retryAfter(null));
+        assertEquals(-1, RateController.retryAfter("soon"));
+        final long wait = RateController.retryAfter(DateUtils.formatDate(new Date(System.currentTimeMillis() + 10000)));
+        assertTrue(wait > 8 * SECONDS && wait <= 10 * SECONDS);
+    }
+
+    @Test
+    public void backsOffWithDecorrelatedJitter() throws AirtableException {
+        final AtomicLong clock = new AtomicLong();
+        final RateController controller = new RateController(new RateLimiter(5, 1, clock::get), clock::get);
+
+        final RateController.Backoff backoff = controller.newBackoff(new RetryPolicy(100, TimeUnit.HOURS.toMillis(1), 0.2));
+        long previous = RateController.MIN_DELAY;
+        for (int i = 0; i < RetryPolicy.MIN_BUDGET; i++) {
+            final long wait = backoff.onRateLimited(response(null));
+            assertTrue(wait >= RateController.MIN_DELAY);
+            assertTrue(wait <= Math.min(RateController.MAX_DELAY, previous * 3));
+            previous = wait;
+            clock.addAndGet(wait);
+        }
+    }
+
+    @Test
+    public void givesUpAfterMaximumRetryTime() throws AirtableException {
+        final AtomicLong clock = new AtomicLong();
+        final RateController controller = new RateController(new RateLimiter(5, 1, clock::get), clock::get);
+
+        final RateController.Backoff backoff = controller.newBackoff(new RetryPolicy(10, 10000, 0.2));
+        clock.addAndGet(backoff.onRateLimited(response("4")));
+        clock.addAndGet(backoff.onRateLimited(response("4")));
+        try {
+            backoff.onRateLimited(response("4"));
+            fail("AirtableException expected");
+        } catch (RetryExhaustedException e) {
+            assertTrue(e.getMessage().contains("maximum retry time"));
+            assertEquals(3, e.getAttempts());
+        }
+    }
+
+    @Test
+    public void recoversFromRateLimitInSeconds() throws Exception {
+        try (AirtableSimulator simulator = new AirtableSimulator()
+                .table("appSimulated", "Movies", 20, i -> Collections.singletonMap("Name", "Movie " + i))
+                .requestsPerSecond(5)
+                .penalty(1000)
+                .retryAfter(true)
+                .start();
+             Airtable airtable = simulator.newAirtable(config -> {
+                 config.setRequestsPerSecond(20);
+                 config.setRetryPolicy(new RetryPolicy());
+             })) {
+            final Table<Movie> movies = airtable.base("appSimulated").table("Movies", Movie.class);
+            final List<Movie> all = movies.select();
+
+            final long start = System.nanoTime();
+            for (Movie movie : all) {
+                assertEquals(movie.getId(), movies.find(movie.getId()).getId());
+            }
+            assertTrue(simulator.getRateLimited() > 0);
+            assertTrue(System.nanoTime() - start < 15 * SECONDS);
+            assertTrue(airtable.base("appSimulated").rateLimiter().getRate() < 20);
+        }
+    }
+
+    @Test
+    public void increasesRateOnlyAfterSuccess() throws Exception {
+        try (AirtableSimulator simulator = new AirtableSimulator()
+                .table("appSimulated", "Movies", 1, i -> Collections.singletonMap("Name", "Movie " + i))
+                .requestsPerSecond(0)
+                .start();
+             Airtable airtable = simulator.newAirtable(config -> {
+                 config.setRequestsPerSecond(20);
+                 config.setRetryPolicy(new RetryPolicy());
+             })) {
+            final Table<Movie> movies = airtable.base("appSimulated").table("Movies", Movie.class);
+            final RateLimiter limiter = airtable.base("appSimulated").rateLimiter();
+            final String id = movies.select().get(0).getId();
+
+            simulator.fail(1, 429);
+            movies.find(id);
+            final double rate = limiter.getRate();
+            assertTrue(rate < 20);
+
+            try {
+                movies.find("recNotExisting00");
+                fail("AirtableException expected");
+            } catch (AirtableException e) {
+                assertEquals(rate, limiter.getRate(), 0.001);
+            }
+            simulator.fail(1, 500);
+            try {
+                movies.create(new Movie());
+                fail("AirtableException expected");
+            } catch (AirtableException e) {
+                assertEquals(rate, limiter.getRate(), 0.001);
+            }
+
+            movies.find(id);
+            assertTrue(limiter.getRate() > rate);
+        }
+    }
+
+    private static RestResponse response(String retryAfter) {
+        final Map<String, String> headers = (retryAfter != null)
+                ? Collections.singletonMap("Retry-After", retryAfter)
+                : Collections.emptyMap();
+        return new RestResponse(429, headers, new byte[0]);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import com.sybit.airtable.exception.AirtableException;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ *
+ */
+public class RateLimiterTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    public void pacesRequests() {
+        final AtomicLong clock = new AtomicLong();
+        final RateLimiter limiter = new RateLimiter(5, 1, clock::get);
+
+        assertEquals(0, limiter.reserve());
+        assertEquals(200 * MILLIS, limiter.reserve());
+        assertEquals(400 * MILLIS, limiter.reserve());
+
+        clock.set(1000 * MILLIS);
+        assertEquals(0, limiter.reserve());
+    }
+
+    @Test
+    public void allowsBurstAfterIdleTime() {
+        final AtomicLong clock = new AtomicLong();
+        final RateLimiter limiter = new RateLimiter(5, 3, clock::get);
+
+        assertEquals(0, limiter.reserve());
+        assertEquals(0, limiter.reserve());
+        assertEquals(0, limiter.reserve());
+        assertEquals(200 * MILLIS, limiter.reserve());
+    }
+
+    @Test
+    public void changeRate() {
+        final AtomicLong clock = new AtomicLong();
+        final RateLimiter limiter = new RateLimiter(5, 1, clock::get);
+
+        assertEquals(0, limiter.reserve());
+        limiter.setRate(2);
+        assertEquals(500 * MILLIS, limiter.reserve());
+    }
+
+    @Test
+    public void sharedByBasesOfSameId() throws AirtableException {
+        final Airtable airtable = new Airtable().configure(new Configuration("123", "http://localhost", null));
+
+        assertSame(new Base("base", airtable).rateLimiter(), airtable.base("base").rateLimiter());
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import com.sybit.airtable.mock.AirtableSimulator;
+import com.sybit.airtable.movies.Movie;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+
+/**
+ *
+ */
+public class RecordCacheTest {
+
+    @Test
+    public void expiresAfterTtl() {
+        final AtomicLong clock = new AtomicLong();
+        final RecordCache<String> cache = new RecordCache<>(10, 1, TimeUnit.SECONDS, clock::get);
+
+        cache.put("rec1", "one", cache.generation());
+        assertEquals("one", cache.get("rec1"));
+
+        clock.set(TimeUnit.SECONDS.toNanos(1));
+        assertNull(cache.get("rec1"));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsed() {
+        final RecordCache<String> cache = new RecordCache<>(2, 1, TimeUnit.MINUTES);
+
+        cache.put("rec1", "one", cache.generation());
+        cache.put("rec2", "two", cache.generation());
+        cache.get("rec1");
+        cache.put("rec3", "three", cache.generation());
+
+        assertEquals("one", cache.get("rec1"));
+        assertNull(cache.get("rec2"));
+        assertEquals("three", cache.get("rec3"));
+        assertEquals(1, cache.getEvictions());
+    }
+
+    @Test
+    public void ignoresRecordsLoadedBeforeInvalidation() {
+        final RecordCache<String> cache = new RecordCache<>(10, 1, TimeUnit.MINUTES);
+
+        final long generation = cache.generation();
+        cache.invalidate("rec1");
+        cache.put("rec1", "stale", generation);
+
+        assertNull(cache.get("rec1"));
+    }
+
+    @Test
+    public void findReadsThroughCache() throws Exception {
+        try (AirtableSimulator simulator = new AirtableSimulator()
+                .table("appSimulated", "Movies", 1, i -> Collections.singletonMap("Name", "Movie " + i))
+                .requestsPerSecond(0)
+                .start();
+             Airtable airtable = simulator.newAirtable()) {
+            final Table<Movie> movies = airtable.base("appSimulated").table("Movies", Movie.class);
+            movies.setCache(new RecordCache<>(100, 1, TimeUnit.MINUTES));
+
+            final String id = movies.select().get(0).getId();
+            final Movie movie = movies.find(id);
+            final Movie cached = movies.find(id);
+            assertNotSame(movie, cached);
+            assertEquals(id, cached.getId());
+            assertEquals(2, simulator.getRequests());
+
+            movie.setName("Updated");
+            movies.update(movie);
+            assertEquals("Updated", movies.find(id).getName());
+            assertEquals(4, simulator.getRequests());
+            assertEquals(1, movies.getCache().getHits());
+            assertEquals(2, movies.getCache().getMisses());
+        }
+    }
+
+    @Test
+    public void findReturnsCopiesOfCachedRecords() throws Exception {
+        try (AirtableSimulator simulator = new AirtableSimulator()
+                .table("appSimulated", "Movies", 1, i -> Collections.singletonMap("Name", "Movie " + i))
+                .requestsPerSecond(0)
+                .start();
+             Airtable airtable = simulator.newAirtable()) {
+            final Table<Movie> movies = airtable.base("appSimulated").table("Movies", Movie.class);
+            movies.setCache(new RecordCache<>(100, 1, TimeUnit.MINUTES));
+
+            final String id = movies.select().get(0).getId();
+            movies.find(id);
+            final Movie first = movies.find(id);
+            final Movie second = movies.find(id);
+            assertEquals(2, movies.getCache().getHits());
+
+            first.setName("Changed");
+            assertEquals("Movie 0", movies.find(id).getName());
+
+            movies.update(first);
+            assertNull(first.getId());
+            assertEquals(id, second.getId());
+            assertNotNull(second.getCreatedTime());
+
+            final Movie found = movies.find(id);
+            assertEquals(id, found.getId());
+            assertNotNull(found.getCreatedTime());
+            assertEquals("Changed", found.getName());
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import com.google.gson.Gson;
+import com.sybit.airtable.exception.AirtableException;
+import com.sybit.airtable.movies.Actor;
+import com.sybit.airtable.movies.Movie;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+/**
+ *
+ */
+public class RecordMapperTest {
+
+    private static final String MOVIE_FIELDS = "{\"Name\":\"The Godfather\","
+            + "\"Actors\":[\"recA\",\"recB\"],"
+            + "\"Photos\":[{\"id\":\"att1\",\"url\":\"https://dl.airtable.com/1.jpg\",\"filename\":\"1.jpg\",\"size\":35698,\"type\":\"image/jpeg\","
+            + "\"thumbnails\":{\"small\":{\"url\":\"https://dl.airtable.com/s.jpg\",\"width\":54,\"height\":36},"
+            + "\"large\":{\"url\":\"https://dl.airtable.com/l.jpg\",\"width\":800,\"height\":533}}}]}";
+
+    @Before
+    public void before() throws AirtableException {
+        // registers the converters
+        new Airtable().configure(new Configuration("123", "http://localhost", null));
+    }
+
+    @Test
+    public void mapSerializedNames() throws Exception {
+        final RecordMapper<Movie> mapper = new RecordMapper<>(Movie.class);
+        final Movie movie = mapper.newInstance();
+
+        for (Map.Entry<String, Object> entry : fields(MOVIE_FIELDS).entrySet()) {
+            mapper.setProperty(movie, entry.getKey(), entry.getValue());
+        }
+        mapper.setProperty(movie, "id", "recFj9J78MLtiFFMz");
+        mapper.setProperty(movie, "createdTime", "2017-03-22T16:17:00.000Z");
+
+        assertEquals("recFj9J78MLtiFFMz", movie.getId());
+        assertEquals("The Godfather", movie.getName());
+        assertEquals(Arrays.asList("recA", "recB"), movie.getActors());
+        assertNotNull(movie.getCreatedTime());
+        assertEquals("att1", movie.getPhotos().get(0).getId());
+        assertEquals(35698, movie.getPhotos().get(0).getSize(), 0);
+        assertEquals(2, movie.getPhotos().get(0).getThumbnails().size());
+        assertEquals(800, movie.getPhotos().get(0).getThumbnails().get("large").getWidth(), 0);
+    }
+
+    @Test
+    public void convertListToArray() throws Exception {
+        final RecordMapper<Actor> mapper = new RecordMapper<>(Actor.class);
+        final Actor actor = mapper.newInstance();
+
+        mapper.setProperty(actor, "Filmography", Arrays.asList("recA", "recB"));
+
+        assertArrayEquals(new String[]{"recA", "recB"}, actor.getFilmography());
+    }
+
+    @Test
+    public void reuseSetterOfKey() {
+        final RecordMapper<Actor> mapper = new RecordMapper<>(Actor.class);
+
+        assertEquals(mapper.setter("Name"), mapper.setter("Name"));
+        assertEquals(String.class, mapper.setter("Name").getType());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknownKey() throws InvocationTargetException {
+        final RecordMapper<Actor> mapper = new RecordMapper<>(Actor.class);
+
+        mapper.setProperty(new Actor(), "Unknown Column", "value");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> fields(String json) {
+        return new Gson().fromJson(json, Map.class);
+    }
+}
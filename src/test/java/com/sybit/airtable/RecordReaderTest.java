@@ -0,0 +1,82 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import com.sybit.airtable.exception.AirtableException;
+import com.sybit.airtable.movies.Movie;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+/**
+ *
+ */
+public class RecordReaderTest {
+
+    private static final String PAGE = "{\"records\":["
+            + "{\"id\":\"rec1\",\"fields\":{\"Name\":\"The Godfather\",\"Actors\":[\"recA\",\"recB\"],"
+            + "\"Photos\":[{\"id\":\"att1\",\"url\":\"https://dl.airtable.com/1.jpg\",\"size\":35698,"
+            + "\"thumbnails\":{\"small\":{\"url\":\"https://dl.airtable.com/s.jpg\",\"width\":54,\"height\":36}}}]},"
+            + "\"createdTime\":\"2017-03-22T16:17:00.000Z\"},"
+            + "{\"id\":\"rec2\",\"fields\":{\"Name\":\"Caddyshack\"},\"createdTime\":\"2017-03-22T16:18:00.000Z\"}"
+            + "],\"offset\":\"itr123/rec2\"}";
+
+    private RecordReader<Movie> reader;
+
+    @Before
+    public void before() throws AirtableException {
+        // registers the converters
+        new Airtable().configure(new Configuration("123", "http://localhost", null));
+        reader = new RecordReader<>(new RecordMapper<>(Movie.class));
+    }
+
+    @Test
+    public void readPage() throws Exception {
+        final RecordPage<Movie> page = reader.readPage(stream(PAGE));
+
+        assertEquals("itr123/rec2", page.getOffset());
+        assertEquals(2, page.getRecords().size());
+
+        final Movie movie = page.getRecords().get(0);
+        assertEquals("rec1", movie.getId());
+        assertEquals("The Godfather", movie.getName());
+        assertEquals(Arrays.asList("recA", "recB"), movie.getActors());
+        assertNotNull(movie.getCreatedTime());
+        assertEquals("att1", movie.getPhotos().get(0).getId());
+        assertEquals(54, movie.getPhotos().get(0).getThumbnails().get("small").getWidth(), 0);
+
+        assertEquals("Caddyshack", page.getRecords().get(1).getName());
+    }
+
+    @Test
+    public void readLastPage() throws Exception {
+        final RecordPage<Movie> page = reader.readPage(stream("{\"records\":[]}"));
+
+        assertNull(page.getOffset());
+        assertEquals(0, page.getRecords().size());
+    }
+
+    @Test
+    public void readRecord() throws Exception {
+        final Movie movie = reader.readRecord(stream("{\"id\":\"rec2\",\"fields\":{\"Name\":\"Caddyshack\"},\"createdTime\":\"2017-03-22T16:18:00.000Z\"}"));
+
+        assertEquals("rec2", movie.getId());
+        assertEquals("Caddyshack", movie.getName());
+    }
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
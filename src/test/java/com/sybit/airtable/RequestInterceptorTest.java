@@ -0,0 +1,156 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import com.sybit.airtable.mock.AirtableSimulator;
+import com.sybit.airtable.movies.Movie;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ */
+public class RequestInterceptorTest {
+
+    @Test
+    public void interceptorsSeeRequestAndResponse() throws Exception {
+        final List<String> calls = new CopyOnWriteArrayList<>();
+        final List<RequestTrace> traces = new CopyOnWriteArrayList<>();
+        try (AirtableSimulator simulator = new AirtableSimulator()
+                .table("appSimulated", "Movies", 150, i -> Collections.singletonMap("Name", "Movie " + i))
+                .requestsPerSecond(0)
+                .start();
+             Airtable airtable = simulator.newAirtable(config -> {
+                 config.setRetryPolicy(new RetryPolicy());
+                 config.addInterceptor(new RequestInterceptor() {
+                     @Override
+                     public void beforeRequest(RequestTrace trace) {
+                         calls.add("first before");
+                     }
+
+                     @Override
+                     public void afterResponse(RequestTrace trace) {
+                         calls.add("first after");
+                         traces.add(trace);
+                     }
+                 });
+                 config.addInterceptor(new RequestInterceptor() {
+                     @Override
+                     public void beforeRequest(RequestTrace trace) {
+                         calls.add("second before");
+                         throw new IllegalStateException("ignored");
+                     }
+
+                     @Override
+                     public void afterResponse(RequestTrace trace) {
+                         calls.add("second after");
+                     }
+                 });
+             })) {
+            final Table<Movie> movies = airtable.base("appSimulated").table("Movies", Movie.class);
+
+            final List<Movie> list = movies.select();
+            assertEquals(150, list.size());
+            assertEquals(Arrays.asList("first before", "second before", "second after", "first after",
+                    "first before", "second before", "second after", "first after"), calls);
+
+            final RequestTrace first = traces.get(0);
+            assertEquals("Movies", first.getTable());
+            assertEquals("select", first.getOperation());
+            assertEquals("GET", first.getMethod());
+            assertTrue(first.getUrl().endsWith("/appSimulated/Movies"));
+            assertNull(first.getQueryString());
+            assertEquals(0, first.getBodySize());
+            assertEquals(200, first.getStatus());
+            assertNotNull(first.getHeader("content-type"));
+            assertTrue(first.getResponseSize() > 0);
+            assertTrue(first.getConnectTime() >= 0);
+            assertTrue(first.getTimeToFirstByte() >= 0);
+            assertTrue(first.getDownloadTime() >= 0);
+            assertTrue(first.getTotalTime() >= first.getTimeToFirstByte());
+            assertNull(first.getError());
+
+            assertTrue(traces.get(1).getQueryString().startsWith("offset="));
+            assertEquals(0, traces.get(1).getConnectTime());
+
+            traces.clear();
+            movies.findAsync(list.get(0).getId()).get();
+            assertEquals(1, traces.size());
+            assertEquals("find", traces.get(0).getOperation());
+            assertEquals(200, traces.get(0).getStatus());
+            assertEquals(-1, traces.get(0).getTimeToFirstByte());
+        }
+    }
+
+    @Test
+    public void interceptorsSeeRetries() throws Exception {
+        final List<Integer> statuses = new ArrayList<>();
+        try (AirtableSimulator simulator = new AirtableSimulator()
+                .table("appSimulated", "Movies", 10, i -> Collections.singletonMap("Name", "Movie " + i))
+                .requestsPerSecond(0)
+                .start();
+             Airtable airtable = simulator.newAirtable(config -> {
+                 config.setRetryPolicy(new RetryPolicy());
+                 config.addInterceptor(new RequestInterceptor() {
+                     @Override
+                     public void afterResponse(RequestTrace trace) {
+                         statuses.add(trace.getStatus());
+                     }
+                 });
+             })) {
+            final Table<Movie> movies = airtable.base("appSimulated").table("Movies", Movie.class);
+
+            simulator.fail(1, 503);
+            assertEquals(10, movies.select().size());
+            assertEquals(Arrays.asList(503, 200), statuses);
+        }
+    }
+
+    @Test
+    public void slowRequestLoggerUsesThreshold() throws Exception {
+        final List<Boolean> slow = new ArrayList<>();
+        final SlowRequestLogger fast = new SlowRequestLogger(10, TimeUnit.MILLISECONDS);
+        final SlowRequestLogger lenient = new SlowRequestLogger(10, TimeUnit.SECONDS);
+        try (AirtableSimulator simulator = new AirtableSimulator()
+                .table("appSimulated", "Movies", 10, i -> Collections.singletonMap("Name", "Movie " + i))
+                .requestsPerSecond(0)
+                .latency(50)
+                .start();
+             Airtable airtable = simulator.newAirtable(config -> {
+                 config.addInterceptor(fast);
+                 config.addInterceptor(new RequestInterceptor() {
+                     @Override
+                     public void afterResponse(RequestTrace trace) {
+                         slow.add(fast.isSlow(trace));
+                         slow.add(lenient.isSlow(trace));
+                     }
+                 });
+             })) {
+            final Table<Movie> movies = airtable.base("appSimulated").table("Movies", Movie.class);
+
+            movies.select();
+            assertEquals(Arrays.asList(true, false), slow);
+            assertEquals(TimeUnit.MILLISECONDS.toNanos(10), fast.getThreshold());
+            assertFalse(airtable.getConfig().getInterceptors().isEmpty());
+
+            airtable.getConfig().removeInterceptor(fast);
+            assertEquals(1, airtable.getConfig().getInterceptors().size());
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import com.sybit.airtable.exception.AirtableException;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+
+/**
+ *
+ */
+public class RestClientTest {
+
+    @Test
+    public void encodesQueryString() throws Exception {
+        final RestRequest request = new RestRequest(RestRequest.Method.GET, "http://localhost/v0/base/Movies")
+                .queryString("fields[]", "Name")
+                .queryString("filterByFormula", "NOT({Name} = '')");
+
+        assertEquals("http://localhost/v0/base/Movies?fields%5B%5D=Name&filterByFormula=NOT%28%7BName%7D+%3D+%27%27%29",
+                request.getUrl());
+        assertEquals(request.getUrl(), request.toUri().toString());
+    }
+
+    @Test
+    public void encodesPath() throws Exception {
+        final RestRequest request = new RestRequest(RestRequest.Method.GET, "http://localhost/v0/base/Movie Actors")
+                .queryString("view", "Main View");
+
+        assertEquals("http://localhost/v0/base/Movie%20Actors?view=Main+View", request.toUri().toString());
+    }
+
+    @Test
+    public void clientPerInstance() throws AirtableException {
+        final Configuration config = new Configuration("123", "http://localhost", null);
+        config.setMaxConnections(4);
+        config.setMaxConnectionsPerRoute(2);
+
+        final Airtable first = new Airtable().configure(config);
+        final Airtable second = new Airtable().configure(new Configuration("456", "http://localhost", null));
+
+        assertNotNull(first.restClient());
+        assertNotSame(first.restClient(), second.restClient());
+        assertEquals(4, first.restClient().getPoolStats().getMax());
+        assertEquals(Configuration.MAX_CONNECTIONS, second.restClient().getPoolStats().getMax());
+
+        first.close();
+        assertNull(first.restClient());
+        assertNotNull(second.restClient());
+        second.close();
+    }
+}
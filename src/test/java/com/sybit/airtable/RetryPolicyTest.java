@@ -0,0 +1,96 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import com.sybit.airtable.exception.RetryExhaustedException;
+import com.sybit.airtable.mock.AirtableSimulator;
+import com.sybit.airtable.movies.Movie;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ *
+ */
+public class RetryPolicyTest {
+
+    @Test
+    public void budgetIsShareOfRequests() {
+        final RetryPolicy policy = new RetryPolicy(10, 60000, 0.1);
+
+        for (int i = 0; i < RetryPolicy.MIN_BUDGET; i++) {
+            assertTrue(policy.tryRetry());
+        }
+        assertFalse(policy.tryRetry());
+
+        for (int i = 0; i < 25; i++) {
+            policy.onRequest();
+        }
+        assertTrue(policy.tryRetry());
+        assertTrue(policy.tryRetry());
+        assertFalse(policy.tryRetry());
+    }
+
+    @Test
+    public void budgetIsBounded() {
+        final RetryPolicy policy = new RetryPolicy(10, 60000, 1);
+
+        for (int i = 0; i < 1000; i++) {
+            policy.onRequest();
+        }
+        assertEquals(RetryPolicy.MAX_BUDGET, policy.getBudget(), 0.001);
+    }
+
+    @Test
+    public void stopsAfterMaximumAttempts() throws Exception {
+        final AtomicLong clock = new AtomicLong();
+        final RateController controller = new RateController(new RateLimiter(5, 1, clock::get), clock::get);
+        final RateController.Backoff backoff = controller.newBackoff(new RetryPolicy(3, 60000, 0.2));
+
+        backoff.onRateLimited(new RestResponse(429, Collections.singletonMap("Retry-After", "1"), new byte[0]));
+        backoff.onRateLimited(new RestResponse(429, Collections.singletonMap("Retry-After", "1"), new byte[0]));
+        try {
+            backoff.onRateLimited(new RestResponse(429, Collections.singletonMap("Retry-After", "1"), new byte[0]));
+            fail("RetryExhaustedException expected");
+        } catch (RetryExhaustedException e) {
+            assertEquals(3, e.getAttempts());
+        }
+    }
+
+    @Test
+    public void failsFastIfBudgetIsExhausted() throws Exception {
+        final RetryPolicy policy = new RetryPolicy(10, 300000, 0);
+        while (policy.tryRetry()) {
+            // drain the initial budget
+        }
+        try (AirtableSimulator simulator = new AirtableSimulator()
+                .table("appSimulated", "Movies", 5, i -> Collections.singletonMap("Name", "Movie " + i))
+                .requestsPerSecond(1)
+                .penalty(60000)
+                .retryAfter(true)
+                .start();
+             Airtable airtable = simulator.newAirtable(config -> config.setRetryPolicy(policy))) {
+            final Table<Movie> movies = airtable.base("appSimulated").table("Movies", Movie.class);
+            final String id = movies.select().get(0).getId();
+
+            final long start = System.nanoTime();
+            try {
+                movies.find(id);
+                fail("RetryExhaustedException expected");
+            } catch (RetryExhaustedException e) {
+                assertEquals(1, e.getAttempts());
+            }
+            assertTrue(System.nanoTime() - start < 5_000_000_000L);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import com.sybit.airtable.exception.AirtableException;
+import com.sybit.airtable.mock.AirtableSimulator;
+import com.sybit.airtable.movies.Movie;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+/**
+ *
+ */
+public class SingleFlightTest {
+
+    @Test
+    public void sharesCallInFlight() throws Exception {
+        final SingleFlight singleFlight = new SingleFlight();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger calls = new AtomicInteger();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Future<String> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+                calls.incrementAndGet();
+                started.countDown();
+                await(release);
+                return "result";
+            }));
+            started.await();
+            final Future<String> follower = executor.submit(() -> singleFlight.execute("key", () -> {
+                calls.incrementAndGet();
+                return "other";
+            }));
+            TimeUnit.MILLISECONDS.sleep(100);
+            release.countDown();
+
+            assertSame(leader.get(), follower.get());
+            assertEquals(1, calls.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void callsAgainAfterCompletion() throws AirtableException {
+        final SingleFlight singleFlight = new SingleFlight();
+
+        assertEquals("first", singleFlight.execute("key", () -> "first"));
+        assertEquals("second", singleFlight.execute("key", () -> "second"));
+    }
+
+    @Test
+    public void sharesException() throws Exception {
+        final SingleFlight singleFlight = new SingleFlight();
+        final CountDownLatch release = new CountDownLatch(1);
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<?> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+                await(release);
+                throw new AirtableException("failed");
+            }));
+            TimeUnit.MILLISECONDS.sleep(100);
+
+            final ErrorHolder holder = new ErrorHolder();
+            final Thread follower = new Thread(() -> {
+                try {
+                    singleFlight.execute("key", () -> "unexpected");
+                } catch (AirtableException e) {
+                    holder.error = e;
+                }
+            });
+            follower.start();
+            TimeUnit.MILLISECONDS.sleep(100);
+            release.countDown();
+            follower.join();
+
+            assertEquals("failed", holder.error.getMessage());
+            try {
+                leader.get();
+                fail("exception expected");
+            } catch (java.util.concurrent.ExecutionException e) {
+                assertSame(holder.error, e.getCause());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void coalescesConcurrentFinds() throws Exception {
+        try (AirtableSimulator simulator = new AirtableSimulator()
+                .table("appSimulated", "Movies", 1, i -> Collections.singletonMap("Name", "Movie " + i))
+                .requestsPerSecond(0)
+                .latency(300)
+                .start();
+             Airtable airtable = simulator.newAirtable(config -> {
+                 config.setRequestsPerSecond(100);
+                 config.setSingleFlight(true);
+             })) {
+            final Table<Movie> movies = airtable.base("appSimulated").table("Movies", Movie.class);
+            final String id = movies.select().get(0).getId();
+
+            final ExecutorService executor = Executors.newFixedThreadPool(8);
+            try {
+                final List<Future<Movie>> results = new ArrayList<>();
+                for (int i = 0; i < 8; i++) {
+                    results.add(executor.submit(() -> movies.find(id)));
+                }
+                final Set<Movie> found = Collections.newSetFromMap(new IdentityHashMap<>());
+                for (Future<Movie> result : results) {
+                    final Movie movie = result.get();
+                    assertEquals(id, movie.getId());
+                    found.add(movie);
+                }
+                assertEquals(8, found.size());
+            } finally {
+                executor.shutdownNow();
+            }
+
+            assertEquals(2, simulator.getRequests());
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class ErrorHolder {
+        private volatile AirtableException error;
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import com.sybit.airtable.mock.AirtableSimulator;
+import com.sybit.airtable.mock.SimulatedRow;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ */
+public class TableAsyncTest {
+
+    @Test
+    public void handlesResponsesByAsyncExecutor() throws Exception {
+        final List<String> threads = new CopyOnWriteArrayList<>();
+        final ExecutorService executor = Executors.newFixedThreadPool(2, runnable -> new Thread(runnable, "callback"));
+        try (AirtableSimulator simulator = new AirtableSimulator()
+                .table("appSimulated", "Movies", 250, SimulatedRow::fields)
+                .requestsPerSecond(0)
+                .start();
+             Airtable airtable = simulator.newAirtable(config -> {
+                 config.setRetryPolicy(new RetryPolicy());
+                 config.setAsyncExecutor(executor);
+                 config.addInterceptor(new RequestInterceptor() {
+                     @Override
+                     public void afterResponse(RequestTrace trace) {
+                         threads.add(Thread.currentThread().getName());
+                     }
+                 });
+             })) {
+            final Table<SimulatedRow> movies = airtable.base("appSimulated").table("Movies", SimulatedRow.class);
+
+            final List<SimulatedRow> list = movies.selectAsync(all()).get(10, TimeUnit.SECONDS);
+            assertEquals(250, list.size());
+            assertEquals(Arrays.asList("callback", "callback", "callback"), threads);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void createsAndUpdatesRecords() throws Exception {
+        final List<String> threads = new CopyOnWriteArrayList<>();
+        try (AirtableSimulator simulator = new AirtableSimulator()
+                .table("appSimulated", "Movies", 10, SimulatedRow::fields)
+                .requestsPerSecond(0)
+                .start();
+             Airtable airtable = simulator.newAirtable(config -> {
+                 config.setRetryPolicy(new RetryPolicy());
+                 config.addInterceptor(new RequestInterceptor() {
+                     @Override
+                     public void afterResponse(RequestTrace trace) {
+                         threads.add(Thread.currentThread().getName());
+                     }
+                 });
+             })) {
+            final Table<SimulatedRow> movies = airtable.base("appSimulated").table("Movies", SimulatedRow.class);
+
+            final SimulatedRow row = new SimulatedRow();
+            row.setName("Created");
+            row.setRank(42);
+            final SimulatedRow created = movies.createAsync(row).get(10, TimeUnit.SECONDS);
+            assertNotNull(created.getId());
+            assertEquals("Created", created.getName());
+            assertEquals(11, simulator.size("appSimulated", "Movies"));
+
+            final String id = created.getId();
+            created.setName("Updated");
+            final SimulatedRow updated = movies.updateAsync(created).get(10, TimeUnit.SECONDS);
+            assertEquals(id, updated.getId());
+            assertEquals("Updated", updated.getName());
+            assertEquals("Updated", movies.find(id).getName());
+
+            assertEquals(3, threads.size());
+            assertTrue(threads.toString(), threads.stream().noneMatch(name -> name.startsWith("airtable-")));
+        }
+    }
+
+    @Test
+    public void retriesRateLimitedRequests() throws Exception {
+        try (AirtableSimulator simulator = new AirtableSimulator()
+                .table("appSimulated", "Movies", 150, SimulatedRow::fields)
+                .requestsPerSecond(0)
+                .start();
+             Airtable airtable = simulator.newAirtable(config -> config.setRetryPolicy(new RetryPolicy()))) {
+            final Table<SimulatedRow> movies = airtable.base("appSimulated").table("Movies", SimulatedRow.class);
+
+            simulator.fail(1, 429);
+            assertEquals(150, movies.selectAsync(all()).get(10, TimeUnit.SECONDS).size());
+            assertEquals(3, simulator.getRequests());
+
+            final SimulatedRow row = new SimulatedRow();
+            row.setName("Created");
+            simulator.fail(1, 429);
+            final SimulatedRow created = movies.createAsync(row).get(10, TimeUnit.SECONDS);
+            assertEquals(5, simulator.getRequests());
+
+            created.setRank(7);
+            simulator.fail(1, 429);
+            assertEquals(Integer.valueOf(7), movies.updateAsync(created).get(10, TimeUnit.SECONDS).getRank());
+            assertEquals(7, simulator.getRequests());
+        }
+    }
+
+    private static Query all() {
+        return new Query() {
+            @Override
+            public Integer getMaxRecords() {
+                return null;
+            }
+
+            @Override
+            public String getView() {
+                return null;
+            }
+
+            @Override
+            public List<Sort> getSort() {
+                return null;
+            }
+
+            @Override
+            public String filterByFormula() {
+                return null;
+            }
+
+            @Override
+            public String[] getFields() {
+                return null;
+            }
+
+            @Override
+            public Integer getPageSize() {
+                return null;
+            }
+
+            @Override
+            public String getOffset() {
+                return null;
+            }
+        };
+    }
+}
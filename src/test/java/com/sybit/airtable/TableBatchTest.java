@@ -0,0 +1,151 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import com.sybit.airtable.exception.BatchException;
+import com.sybit.airtable.mock.AirtableSimulator;
+import com.sybit.airtable.mock.SimulatedRow;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ *
+ */
+public class TableBatchTest {
+
+    @Test
+    public void createAllSendsBatchesOfTen() throws Exception {
+        try (AirtableSimulator simulator = new AirtableSimulator()
+                .table("appSimulated", "Movies", 0, SimulatedRow::fields)
+                .requestsPerSecond(0)
+                .start();
+             Airtable airtable = simulator.newAirtable()) {
+            final Table<SimulatedRow> movies = airtable.base("appSimulated").table("Movies", SimulatedRow.class);
+
+            final List<SimulatedRow> items = new ArrayList<>();
+            for (int i = 0; i < 25; i++) {
+                final SimulatedRow row = new SimulatedRow();
+                row.setName("New " + i);
+                row.setRank(i);
+                items.add(row);
+            }
+
+            final List<SimulatedRow> created = movies.createAll(items);
+            assertEquals(3, simulator.getRequests());
+            assertEquals(25, simulator.size("appSimulated", "Movies"));
+            assertEquals(items.stream().map(SimulatedRow::getName).collect(Collectors.toList()),
+                    created.stream().map(SimulatedRow::getName).collect(Collectors.toList()));
+            assertEquals(25, created.stream().map(SimulatedRow::getId).collect(Collectors.toSet()).size());
+        }
+    }
+
+    @Test
+    public void updateAllSendsIdsOfRecords() throws Exception {
+        try (AirtableSimulator simulator = new AirtableSimulator()
+                .table("appSimulated", "Movies", 30, SimulatedRow::fields)
+                .requestsPerSecond(0)
+                .start();
+             Airtable airtable = simulator.newAirtable()) {
+            final Table<SimulatedRow> movies = airtable.base("appSimulated").table("Movies", SimulatedRow.class);
+
+            final List<SimulatedRow> items = movies.select().subList(0, 25);
+            final List<String> ids = items.stream().map(SimulatedRow::getId).collect(Collectors.toList());
+            for (int i = 0; i < items.size(); i++) {
+                items.get(i).setRank(1000 + i);
+            }
+            final long requests = simulator.getRequests();
+
+            final List<SimulatedRow> updated = movies.updateAll(items);
+            assertEquals(3, simulator.getRequests() - requests);
+            assertEquals(ids, updated.stream().map(SimulatedRow::getId).collect(Collectors.toList()));
+            for (int i = 0; i < updated.size(); i++) {
+                assertEquals(Integer.valueOf(1000 + i), updated.get(i).getRank());
+                assertEquals(Integer.valueOf(1000 + i), movies.find(ids.get(i)).getRank());
+            }
+            assertEquals(30, simulator.size("appSimulated", "Movies"));
+        }
+    }
+
+    @Test
+    public void updateAllReportsFailedBatch() throws Exception {
+        try (AirtableSimulator simulator = new AirtableSimulator()
+                .table("appSimulated", "Movies", 25, SimulatedRow::fields)
+                .requestsPerSecond(0)
+                .start();
+             Airtable airtable = simulator.newAirtable()) {
+            final Table<SimulatedRow> movies = airtable.base("appSimulated").table("Movies", SimulatedRow.class);
+
+            final List<SimulatedRow> items = movies.select();
+            final List<String> ids = items.stream().map(SimulatedRow::getId).collect(Collectors.toList());
+            for (SimulatedRow item : items) {
+                item.setRank(-1);
+            }
+            items.get(14).setId("recNotExisting00");
+            final long requests = simulator.getRequests();
+
+            try {
+                movies.updateAll(items);
+                fail("BatchException expected");
+            } catch (BatchException e) {
+                assertTrue(e.getMessage(), e.getMessage().startsWith("Batch of records 10 to 19 failed"));
+                assertEquals(10, e.getFailedIndex());
+                assertEquals(ids.subList(0, 10), e.getCompleted().stream()
+                        .map(item -> ((SimulatedRow) item).getId()).collect(Collectors.toList()));
+            }
+            assertEquals(2, simulator.getRequests() - requests);
+            for (int i = 0; i < ids.size(); i++) {
+                assertEquals(i < 10, movies.find(ids.get(i)).getRank() == -1);
+            }
+
+            items.get(14).setId(ids.get(14));
+            final long resubmitted = simulator.getRequests();
+            assertEquals(ids.subList(10, 25), movies.updateAll(items.subList(10, 25)).stream()
+                    .map(SimulatedRow::getId).collect(Collectors.toList()));
+            assertEquals(2, simulator.getRequests() - resubmitted);
+        }
+    }
+
+    @Test
+    public void destroyAllReportsFailedBatch() throws Exception {
+        try (AirtableSimulator simulator = new AirtableSimulator()
+                .table("appSimulated", "Movies", 25, SimulatedRow::fields)
+                .requestsPerSecond(0)
+                .start();
+             Airtable airtable = simulator.newAirtable()) {
+            final Table<SimulatedRow> movies = airtable.base("appSimulated").table("Movies", SimulatedRow.class);
+
+            final List<String> ids = movies.select().stream().map(SimulatedRow::getId).collect(Collectors.toList());
+            final List<String> wanted = new ArrayList<>(ids);
+            wanted.set(12, "recNotExisting00");
+            final long requests = simulator.getRequests();
+
+            try {
+                movies.destroyAll(wanted);
+                fail("BatchException expected");
+            } catch (BatchException e) {
+                assertTrue(e.getMessage(), e.getMessage().startsWith("Batch of records 10 to 19 failed"));
+                assertEquals(10, e.getFailedIndex());
+                assertEquals(Collections.nCopies(10, true), e.getCompleted());
+            }
+            assertEquals(2, simulator.getRequests() - requests);
+            assertEquals(15, simulator.size("appSimulated", "Movies"));
+            final List<String> remaining = movies.select().stream().map(SimulatedRow::getId).collect(Collectors.toList());
+            assertEquals(new HashSet<>(ids.subList(10, 25)), new HashSet<>(remaining));
+            assertFalse(remaining.contains(ids.get(0)));
+        }
+    }
+}
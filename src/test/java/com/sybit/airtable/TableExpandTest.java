@@ -0,0 +1,341 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import com.google.gson.annotations.SerializedName;
+import com.sybit.airtable.mock.AirtableSimulator;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ *
+ */
+public class TableExpandTest {
+
+    @Test
+    public void expandsLinkedRecordsOncePerScan() throws Exception {
+        try (AirtableSimulator simulator = new AirtableSimulator()
+                .table("appSimulated", "Actors", 5, i -> Collections.singletonMap("Name", "Actor " + i))
+                .table("appSimulated", "Movies", 0, i -> Collections.emptyMap())
+                .requestsPerSecond(0)
+                .start();
+             Airtable airtable = simulator.newAirtable()) {
+            final Base base = airtable.base("appSimulated");
+            final Table<Person> actors = base.table("Actors", Person.class);
+            final Table<Film> movies = base.table("Movies", Film.class);
+
+            final List<String> actorIds = actors.select().stream().map(Person::getId).collect(Collectors.toList());
+            for (int i = 0; i < 250; i++) {
+                final Film film = new Film();
+                film.setName("Movie " + i);
+                film.setActors(Arrays.asList(actorIds.get(i % 5), "recNotExisting00", actorIds.get((i + 2) % 5)));
+                movies.create(film);
+            }
+
+            movies.expand(Film::getActors, Film::setActorRecords, actors);
+            final long requests = simulator.getRequests();
+            final List<Film> films = movies.select();
+
+            // 3 pages of movies, all actors are loaded once for the first page
+            assertEquals(3 + 1, simulator.getRequests() - requests);
+            assertEquals(250, films.size());
+            for (Film film : films) {
+                final List<String> ids = new ArrayList<>();
+                for (Person actor : film.getActorRecords()) {
+                    ids.add(actor.getId());
+                }
+                assertEquals(Arrays.asList(film.getActors().get(0), film.getActors().get(2)), ids);
+            }
+
+            final long streamed = simulator.getRequests();
+            try (Stream<Film> stream = movies.stream(query(50), 2)) {
+                assertEquals(250, stream.filter(film -> film.getActorRecords().size() == 2).count());
+            }
+            assertEquals(5 + 1, simulator.getRequests() - streamed);
+        }
+    }
+
+    @Test
+    public void expandsCoalescedScansIndependently() throws Exception {
+        try (AirtableSimulator simulator = new AirtableSimulator()
+                .table("appSimulated", "Actors", 5, i -> Collections.singletonMap("Name", "Actor " + i))
+                .table("appSimulated", "Movies", 0, i -> Collections.emptyMap())
+                .requestsPerSecond(0)
+                .start();
+             Airtable airtable = simulator.newAirtable(config -> config.setSingleFlight(true))) {
+            final Base base = airtable.base("appSimulated");
+            final Table<Person> actors = base.table("Actors", Person.class);
+            final Table<Film> movies = base.table("Movies", Film.class);
+
+            final List<String> actorIds = actors.select().stream().map(Person::getId).collect(Collectors.toList());
+            final List<Film> created = new ArrayList<>();
+            for (int i = 0; i < 250; i++) {
+                final Film film = new Film();
+                film.setName("Movie " + i);
+                film.setActors(Arrays.asList(actorIds.get(i % 5), actorIds.get((i + 2) % 5)));
+                created.add(film);
+            }
+            movies.createAll(created);
+            movies.expand(Film::getActors, Film::setActorRecords, actors);
+            simulator.latency(100);
+
+            final ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                final CountDownLatch start = new CountDownLatch(1);
+                final List<Future<List<Film>>> scans = new ArrayList<>();
+                for (int i = 0; i < 4; i++) {
+                    scans.add(executor.submit(() -> {
+                        start.await();
+                        return movies.select();
+                    }));
+                }
+                start.countDown();
+
+                final Set<Object> records = Collections.newSetFromMap(new IdentityHashMap<>());
+                for (Future<List<Film>> scan : scans) {
+                    final List<Film> films = scan.get(30, TimeUnit.SECONDS);
+                    assertEquals(250, films.size());
+                    for (Film film : films) {
+                        assertEquals(film.getActors(), film.getActorRecords().stream()
+                                .map(Person::getId).collect(Collectors.toList()));
+                        records.add(film);
+                        records.add(film.getActorRecords());
+                    }
+                }
+                assertEquals(4 * 250 * 2, records.size());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    @Test
+    public void sharesLinkedRecordsOfPartitions() throws Exception {
+        final AtomicInteger actorRequests = new AtomicInteger();
+        try (AirtableSimulator simulator = new AirtableSimulator()
+                .table("appSimulated", "Actors", 5, i -> Collections.singletonMap("Name", "Actor " + i))
+                .table("appSimulated", "Movies", 0, i -> Collections.emptyMap())
+                .requestsPerSecond(0)
+                .start();
+             Airtable airtable = simulator.newAirtable(config -> config.addInterceptor(new RequestInterceptor() {
+                 @Override
+                 public void afterResponse(RequestTrace trace) {
+                     if ("Actors".equals(trace.getTable())) {
+                         actorRequests.incrementAndGet();
+                     }
+                 }
+             }))) {
+            final Base base = airtable.base("appSimulated");
+            final Table<Person> actors = base.table("Actors", Person.class);
+            final Table<Film> movies = base.table("Movies", Film.class);
+
+            final List<String> actorIds = actors.select().stream().map(Person::getId).collect(Collectors.toList());
+            final List<Film> created = new ArrayList<>();
+            for (int i = 0; i < 400; i++) {
+                final Film film = new Film();
+                film.setName("Movie " + i);
+                film.setActors(Arrays.asList(actorIds.get(i % 5), actorIds.get((i + 2) % 5)));
+                created.add(film);
+            }
+            movies.createAll(created);
+            movies.expand(Film::getActors, Film::setActorRecords, actors);
+            simulator.latency(50);
+            actorRequests.set(0);
+
+            try (Stream<Film> stream = movies.parallelScan(query(null), 4)) {
+                assertEquals(400, stream.filter(film -> film.getActors().equals(film.getActorRecords().stream()
+                        .map(Person::getId).collect(Collectors.toList()))).count());
+            }
+            assertEquals(1, actorRequests.get());
+        }
+    }
+
+    @Test
+    public void loadsEvictedLinkedRecordsAgain() throws Exception {
+        try (AirtableSimulator simulator = new AirtableSimulator()
+                .table("appSimulated", "Actors", 3, i -> Collections.singletonMap("Name", "Actor " + i))
+                .requestsPerSecond(0)
+                .start();
+             Airtable airtable = simulator.newAirtable()) {
+            final Table<Person> actors = airtable.base("appSimulated").table("Actors", Person.class);
+            final List<String> ids = actors.select().stream().map(Person::getId).collect(Collectors.toList());
+            final LinkExpansion<Film, Person>.Scan scan =
+                    new LinkExpansion<>(Film::getActors, Film::setActorRecords, actors).newScan(2);
+
+            final long requests = simulator.getRequests();
+            final Film film = new Film();
+            for (List<String> links : Arrays.asList(ids.subList(0, 2), ids.subList(0, 1), ids.subList(2, 3),
+                    ids.subList(0, 1), ids.subList(1, 2))) {
+                film.setActors(links);
+                scan.expand(Collections.singletonList(film));
+                assertEquals(links, film.getActorRecords().stream().map(Person::getId).collect(Collectors.toList()));
+            }
+
+            // the second actor is evicted by the third, as the first one was used more recently
+            assertEquals(3, simulator.getRequests() - requests);
+        }
+    }
+
+    @Test
+    public void skipsRecordsWithoutLinks() throws Exception {
+        try (AirtableSimulator simulator = new AirtableSimulator()
+                .table("appSimulated", "Actors", 5, i -> Collections.singletonMap("Name", "Actor " + i))
+                .table("appSimulated", "Movies", 5, i -> Collections.singletonMap("Name", "Movie " + i))
+                .requestsPerSecond(0)
+                .start();
+             Airtable airtable = simulator.newAirtable()) {
+            final Base base = airtable.base("appSimulated");
+            final Table<Person> actors = base.table("Actors", Person.class);
+            final Table<Film> movies = base.table("Movies", Film.class)
+                    .expand(Film::getActors, Film::setActorRecords, actors);
+
+            final long requests = simulator.getRequests();
+            final List<Film> films = movies.select();
+            assertEquals(5, films.size());
+            assertNull(films.get(0).getActorRecords());
+            assertEquals(1, simulator.getRequests() - requests);
+        }
+    }
+
+    private static Query query(final Integer pageSize) {
+        return new Query() {
+            @Override
+            public Integer getMaxRecords() {
+                return null;
+            }
+
+            @Override
+            public String getView() {
+                return null;
+            }
+
+            @Override
+            public List<Sort> getSort() {
+                return null;
+            }
+
+            @Override
+            public String filterByFormula() {
+                return null;
+            }
+
+            @Override
+            public String[] getFields() {
+                return null;
+            }
+
+            @Override
+            public Integer getPageSize() {
+                return pageSize;
+            }
+
+            @Override
+            public String getOffset() {
+                return null;
+            }
+        };
+    }
+
+    public static class Film {
+        private String id;
+        @SerializedName("Name")
+        private String name;
+        @SerializedName("Actors")
+        private List<String> actors;
+        private transient List<Person> actorRecords;
+        private Date createdTime;
+
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public List<String> getActors() {
+            return actors;
+        }
+
+        public void setActors(List<String> actors) {
+            this.actors = actors;
+        }
+
+        public List<Person> getActorRecords() {
+            return actorRecords;
+        }
+
+        public void setActorRecords(List<Person> actorRecords) {
+            this.actorRecords = actorRecords;
+        }
+
+        public Date getCreatedTime() {
+            return createdTime;
+        }
+
+        public void setCreatedTime(Date createdTime) {
+            this.createdTime = createdTime;
+        }
+    }
+
+    public static class Person {
+        private String id;
+        @SerializedName("Name")
+        private String name;
+        private Date createdTime;
+
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public Date getCreatedTime() {
+            return createdTime;
+        }
+
+        public void setCreatedTime(Date createdTime) {
+            this.createdTime = createdTime;
+        }
+    }
+}
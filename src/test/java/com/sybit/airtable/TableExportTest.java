@@ -0,0 +1,199 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import com.google.gson.Gson;
+import com.sybit.airtable.mock.AirtableSimulator;
+import com.sybit.airtable.mock.SimulatedRow;
+import com.sybit.airtable.movies.Movie;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ *
+ */
+public class TableExportTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void exportsNdjsonAndCsv() throws Exception {
+        try (AirtableSimulator simulator = new AirtableSimulator()
+                .table("appSimulated", "Movies", 250, TableExportTest::fields)
+                .requestsPerSecond(0)
+                .start();
+             Airtable airtable = simulator.newAirtable()) {
+            final Table<Movie> movies = airtable.base("appSimulated").table("Movies", Movie.class);
+
+            final ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+            assertEquals(250, movies.export(query(null, null), ExportFormat.NDJSON, ndjson));
+            final String[] lines = ndjson.toString(StandardCharsets.UTF_8.name()).split("\n");
+            assertEquals(250, lines.length);
+            final Set<String> ids = new HashSet<>();
+            for (String line : lines) {
+                final Map<String, Object> record = new Gson().fromJson(line, Map.class);
+                ids.add((String) record.get("id"));
+                assertEquals(Arrays.asList("drama", "comedy"), ((Map<String, Object>) record.get("fields")).get("Tags"));
+            }
+            assertEquals(250, ids.size());
+
+            final ByteArrayOutputStream csv = new ByteArrayOutputStream();
+            assertEquals(250, movies.export(query(null, new String[]{"Name", "Note"}), ExportFormat.CSV,
+                    Channels.newChannel(csv)));
+            final List<String> rows = Arrays.asList(csv.toString(StandardCharsets.UTF_8.name()).split("\r\n"));
+            assertEquals(251, rows.size());
+            assertEquals("id,createdTime,Name,Note", rows.get(0));
+            final Set<String> csvIds = rows.subList(1, rows.size()).stream()
+                    .map(row -> row.substring(0, row.indexOf(','))).collect(Collectors.toSet());
+            assertEquals(ids, csvIds);
+            assertTrue(rows.get(1), rows.get(1).matches("rec\\w+,[^,]+,Movie \\d+,\"Says \"\"hello\"\", twice\""));
+
+            final ByteArrayOutputStream all = new ByteArrayOutputStream();
+            movies.export(query(null, new String[]{"Name", "Rank", "Tags", "Note"}), ExportFormat.CSV, all);
+            final String[] allRows = all.toString(StandardCharsets.UTF_8.name()).split("\r\n");
+            assertEquals("id,createdTime,Name,Rank,Tags,Note", allRows[0]);
+            assertTrue(allRows[1], allRows[1].matches("rec\\w+,[^,]+,Movie \\d+,\\d+,\"\\[\"\"drama\"\",\"\"comedy\"\"\\]\",.*"));
+
+            final ByteArrayOutputStream empty = new ByteArrayOutputStream();
+            assertEquals(0, movies.export(query("{Rank}<0", new String[]{"Name"}), ExportFormat.CSV, empty));
+            assertEquals("id,createdTime,Name\r\n", empty.toString(StandardCharsets.UTF_8.name()));
+        }
+    }
+
+    @Test
+    public void csvRequiresFields() throws Exception {
+        try (AirtableSimulator simulator = new AirtableSimulator()
+                .table("appSimulated", "Movies", 10, TableExportTest::fields)
+                .requestsPerSecond(0)
+                .start();
+             Airtable airtable = simulator.newAirtable()) {
+            final Table<Movie> movies = airtable.base("appSimulated").table("Movies", Movie.class);
+
+            try {
+                movies.export(query(null, null), ExportFormat.CSV, new ByteArrayOutputStream());
+                fail("IllegalArgumentException expected");
+            } catch (IllegalArgumentException e) {
+                assertEquals(0, simulator.getRequests());
+            }
+        }
+    }
+
+    @Test
+    public void csvWritesFieldsMissingOnFirstPage() throws Exception {
+        try (AirtableSimulator simulator = new AirtableSimulator()
+                .table("appSimulated", "Movies", 150, i -> Collections.singletonMap("Name", "Movie " + i))
+                .requestsPerSecond(0)
+                .start();
+             Airtable airtable = simulator.newAirtable()) {
+            final Table<SimulatedRow> movies = airtable.base("appSimulated").table("Movies", SimulatedRow.class);
+
+            final List<SimulatedRow> rows = movies.select();
+            final List<SimulatedRow> secondPage = new ArrayList<>(rows.subList(100, 150));
+            for (SimulatedRow row : secondPage) {
+                row.setRank(7);
+            }
+            movies.updateAll(secondPage);
+
+            final ByteArrayOutputStream csv = new ByteArrayOutputStream();
+            assertEquals(150, movies.export(query(null, new String[]{"Name", "Rank"}), ExportFormat.CSV, csv));
+            final String[] lines = csv.toString(StandardCharsets.UTF_8.name()).split("\r\n");
+            assertEquals("id,createdTime,Name,Rank", lines[0]);
+            assertTrue(lines[100], lines[100].endsWith(","));
+            assertTrue(lines[101], lines[101].endsWith(",7"));
+            assertTrue(lines[150], lines[150].endsWith(",7"));
+        }
+    }
+
+    @Test
+    public void exportsNumbersAsReceived() throws Exception {
+        try (AirtableSimulator simulator = new AirtableSimulator()
+                .table("appSimulated", "Movies", 1, i -> {
+                    final Map<String, Object> fields = new LinkedHashMap<>();
+                    fields.put("Rank", 3);
+                    fields.put("Code", 9007199254740993L);
+                    return fields;
+                })
+                .requestsPerSecond(0)
+                .start();
+             Airtable airtable = simulator.newAirtable()) {
+            final Table<Movie> movies = airtable.base("appSimulated").table("Movies", Movie.class);
+
+            final ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+            assertEquals(1, movies.export(query(null, null), ExportFormat.NDJSON, ndjson));
+            final String line = ndjson.toString(StandardCharsets.UTF_8.name());
+            assertTrue(line, line.contains("\"fields\":{\"Rank\":3,\"Code\":9007199254740993}"));
+
+            final ByteArrayOutputStream csv = new ByteArrayOutputStream();
+            movies.export(query(null, new String[]{"Rank", "Code"}), ExportFormat.CSV, csv);
+            final String[] lines = csv.toString(StandardCharsets.UTF_8.name()).split("\r\n");
+            assertTrue(lines[1], lines[1].endsWith(",3,9007199254740993"));
+        }
+    }
+
+    private static Map<String, Object> fields(int i) {
+        final Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("Name", "Movie " + i);
+        fields.put("Rank", i);
+        fields.put("Tags", Arrays.asList("drama", "comedy"));
+        fields.put("Note", "Says \"hello\", twice");
+        return fields;
+    }
+
+    private static Query query(final String formula, final String[] fields) {
+        return new Query() {
+            @Override
+            public Integer getMaxRecords() {
+                return null;
+            }
+
+            @Override
+            public String getView() {
+                return null;
+            }
+
+            @Override
+            public List<Sort> getSort() {
+                return null;
+            }
+
+            @Override
+            public String filterByFormula() {
+                return formula;
+            }
+
+            @Override
+            public String[] getFields() {
+                return fields;
+            }
+
+            @Override
+            public Integer getPageSize() {
+                return null;
+            }
+
+            @Override
+            public String getOffset() {
+                return null;
+            }
+        };
+    }
+}
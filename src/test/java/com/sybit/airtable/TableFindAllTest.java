@@ -0,0 +1,80 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import com.sybit.airtable.mock.AirtableSimulator;
+import com.sybit.airtable.movies.Movie;
+import org.junit.Test;
+
+import java.net.URLEncoder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ */
+public class TableFindAllTest {
+
+    @Test
+    public void chunksIdsIntoFormulas() throws Exception {
+        final List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            ids.add(String.format("rec%014d", i));
+        }
+
+        final List<String> formulas = Table.recordIdFormulas(ids);
+
+        assertEquals(12, formulas.size());
+        assertTrue(formulas.get(0).startsWith("OR(RECORD_ID()='rec00000000000000',RECORD_ID()='rec00000000000001',"));
+        int count = 0;
+        for (String formula : formulas) {
+            assertTrue(URLEncoder.encode(formula, "UTF-8").length() <= 4010);
+            count += formula.split(",").length;
+        }
+        assertEquals(1000, count);
+    }
+
+    @Test
+    public void escapesQuotes() {
+        assertEquals(Collections.singletonList("OR(RECORD_ID()='it\\'s')"),
+                Table.recordIdFormulas(Collections.singletonList("it's")));
+    }
+
+    @Test
+    public void findsRecordsByIds() throws Exception {
+        try (AirtableSimulator simulator = new AirtableSimulator()
+                .table("appSimulated", "Movies", 500, i -> Collections.singletonMap("Name", "Movie " + i))
+                .requestsPerSecond(0)
+                .start();
+             Airtable airtable = simulator.newAirtable(config -> config.setRequestsPerSecond(100))) {
+            final Table<Movie> movies = airtable.base("appSimulated").table("Movies", Movie.class);
+            movies.setCache(new RecordCache<>(1000, 1, TimeUnit.MINUTES));
+
+            final List<String> ids = movies.select().stream().map(Movie::getId).collect(Collectors.toList());
+            final long requests = simulator.getRequests();
+            Collections.reverse(ids);
+            final List<String> wanted = new ArrayList<>(ids.subList(0, 250));
+            wanted.add("recNotExisting00");
+
+            final Map<String, Movie> found = movies.findAll(wanted);
+            assertEquals(ids.subList(0, 250), new ArrayList<>(found.keySet()));
+            assertEquals(ids.get(0), found.get(ids.get(0)).getId());
+            assertEquals(3, simulator.getRequests() - requests);
+
+            movies.findAll(Arrays.asList(ids.get(0), ids.get(1)));
+            assertEquals(3, simulator.getRequests() - requests);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import com.sybit.airtable.exception.AirtableException;
+import com.sybit.airtable.mock.AirtableSimulator;
+import com.sybit.airtable.mock.SimulatedRow;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ *
+ */
+public class TableMirrorTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void servesRecordsFromSnapshot() throws Exception {
+        try (AirtableSimulator simulator = new AirtableSimulator()
+                .table("appSimulated", "Movies", 250, SimulatedRow::fields)
+                .requestsPerSecond(0)
+                .start();
+             Airtable airtable = simulator.newAirtable()) {
+            final Table<SimulatedRow> movies = airtable.base("appSimulated").table("Movies", SimulatedRow.class);
+            final Path file = folder.getRoot().toPath().resolve("movies.snapshot");
+
+            final TableMirror<SimulatedRow> mirror = new TableMirror<>(movies, file);
+            assertFalse(mirror.load());
+            assertEquals(0, mirror.size());
+            assertEquals(250, mirror.refresh());
+            assertNotNull(mirror.getSnapshotTime());
+            assertFalse(Files.exists(file.resolveSibling("movies.snapshot.tmp")));
+
+            final List<SimulatedRow> films = movies.select();
+            final SimulatedRow expected = films.get(17);
+            final SimulatedRow found = mirror.find(expected.getId());
+            assertEquals(expected.getId(), found.getId());
+            assertEquals(expected.getName(), found.getName());
+            assertEquals(expected.getRank(), found.getRank());
+            assertEquals(expected.getCreatedTime(), found.getCreatedTime());
+            assertNull(mirror.find("recNotExisting00"));
+
+            final List<String> ids = mirror.stream().map(SimulatedRow::getId).collect(Collectors.toList());
+            assertEquals(films.stream().map(SimulatedRow::getId).sorted().collect(Collectors.toList()), ids);
+
+            // a restarted service loads the snapshot without requests
+            final long requests = simulator.getRequests();
+            final TableMirror<SimulatedRow> restarted = new TableMirror<>(movies, file);
+            assertTrue(restarted.load());
+            assertEquals(250, restarted.size());
+            assertEquals(expected.getName(), restarted.find(expected.getId()).getName());
+            assertEquals(requests, simulator.getRequests());
+
+            movies.destroy(expected.getId());
+            assertEquals(expected.getName(), mirror.find(expected.getId()).getName());
+            assertEquals(249, mirror.refresh());
+            assertNull(mirror.find(expected.getId()));
+        }
+    }
+
+    @Test
+    public void rejectsInvalidSnapshot() throws Exception {
+        final Path file = folder.newFile("invalid.snapshot").toPath();
+        Files.write(file, "not a snapshot".getBytes(StandardCharsets.UTF_8));
+
+        final TableMirror<SimulatedRow> mirror = new TableMirror<>(new Table<>("Movies", SimulatedRow.class), file);
+        try {
+            mirror.load();
+            fail("AirtableException expected");
+        } catch (AirtableException e) {
+            assertEquals(0, mirror.size());
+        }
+        try {
+            mirror.find("rec00000000000000");
+            fail("AirtableException expected");
+        } catch (AirtableException e) {
+            assertNull(mirror.getSnapshotTime());
+        }
+    }
+}
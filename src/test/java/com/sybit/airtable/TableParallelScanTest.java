@@ -0,0 +1,210 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import com.sybit.airtable.exception.UncheckedAirtableException;
+import com.sybit.airtable.mock.AirtableSimulator;
+import com.sybit.airtable.mock.SimulatedRow;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ *
+ */
+public class TableParallelScanTest {
+
+    @Test
+    public void recordIdPartitionsCoverAllCharacters() {
+        final List<String> formulas = Table.recordIdPartitions(4);
+        assertEquals(4, formulas.size());
+        assertEquals("FIND(MID(RECORD_ID(),4,1),'0123456789ABCDE')", formulas.get(0));
+
+        final StringBuilder chars = new StringBuilder();
+        for (String formula : formulas) {
+            chars.append(formula, formula.indexOf(",'") + 2, formula.length() - 2);
+        }
+        assertEquals("0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz", chars.toString());
+        assertEquals(62, Table.recordIdPartitions(62).size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void tooManyPartitions() {
+        Table.recordIdPartitions(63);
+    }
+
+    @Test
+    public void rangePartitions() {
+        assertEquals(Arrays.asList("NOT({Rank}>=10)", "AND({Rank}>=10,NOT({Rank}>=20))", "{Rank}>=20"),
+                Table.rangePartitions("Rank", 10, 20));
+        assertEquals(Arrays.asList("NOT({Released}>=DATETIME_PARSE('1970-01-01T00:00:00.000Z'))",
+                "{Released}>=DATETIME_PARSE('1970-01-01T00:00:00.000Z')"),
+                Table.rangePartitions("Released", new Date(0)));
+    }
+
+    @Test
+    public void scansPartitionsConcurrently() throws Exception {
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        try (AirtableSimulator simulator = new AirtableSimulator()
+                .table("appSimulated", "Movies", 1000, TableParallelScanTest::fields)
+                .requestsPerSecond(0)
+                .latency(20)
+                .start();
+             Airtable airtable = simulator.newAirtable(config -> {
+                 config.addInterceptor(new RequestInterceptor() {
+                     @Override
+                     public void beforeRequest(RequestTrace trace) {
+                         maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                     }
+
+                     @Override
+                     public void afterResponse(RequestTrace trace) {
+                         inFlight.decrementAndGet();
+                     }
+                 });
+             })) {
+            final Table<SimulatedRow> movies = airtable.base("appSimulated").table("Movies", SimulatedRow.class);
+
+            final Set<String> expected = movies.select().stream().map(SimulatedRow::getId).collect(Collectors.toSet());
+            try (Stream<SimulatedRow> stream = movies.parallelScan(query(null, null), 4)) {
+                final List<String> ids = stream.map(SimulatedRow::getId).collect(Collectors.toList());
+                assertEquals(1000, ids.size());
+                assertEquals(expected, new HashSet<>(ids));
+            }
+            assertTrue(maxInFlight.get() > 1);
+
+            try (Stream<SimulatedRow> stream = movies.parallelScan(query(null, null), "Rank", 250, 500, 750)) {
+                final List<String> ids = stream.map(SimulatedRow::getId).collect(Collectors.toList());
+                assertEquals(1000, ids.size());
+                assertEquals(expected, new HashSet<>(ids));
+            }
+
+            try (Stream<SimulatedRow> stream = movies.parallelScan(query("{Rank}<100", null), 3)) {
+                assertEquals(90, stream.count());
+            }
+
+            try (Stream<SimulatedRow> stream = movies.parallelScan(query(null, 10), 3)) {
+                assertEquals(10, stream.count());
+            }
+        }
+    }
+
+    @Test
+    public void buffersOnePagePerPartition() throws Exception {
+        try (AirtableSimulator simulator = new AirtableSimulator()
+                .table("appSimulated", "Movies", 1000, TableParallelScanTest::fields)
+                .requestsPerSecond(0)
+                .start();
+             Airtable airtable = simulator.newAirtable()) {
+            final Table<SimulatedRow> movies = airtable.base("appSimulated").table("Movies", SimulatedRow.class);
+
+            try (Stream<SimulatedRow> stream = movies.parallelScan(query(null, null),
+                    Arrays.asList("{Rank}>=0", "{Rank}<0"))) {
+                final Iterator<SimulatedRow> it = stream.iterator();
+                it.next();
+
+                // one request of the empty partition, the taken, the queued and the loading page of the other
+                final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+                while (simulator.getRequests() < 4 && System.nanoTime() < deadline) {
+                    Thread.sleep(10);
+                }
+                assertEquals(4, simulator.getRequests());
+                Thread.sleep(200);
+                assertEquals(4, simulator.getRequests());
+                int count = 1;
+                while (it.hasNext()) {
+                    it.next();
+                    count++;
+                }
+                assertEquals(900, count);
+            }
+        }
+    }
+
+    @Test
+    public void failedPartitionEndsScan() throws Exception {
+        try (AirtableSimulator simulator = new AirtableSimulator()
+                .table("appSimulated", "Movies", 100, TableParallelScanTest::fields)
+                .requestsPerSecond(0)
+                .start();
+             Airtable airtable = simulator.newAirtable()) {
+            final Table<SimulatedRow> movies = airtable.base("appSimulated").table("Movies", SimulatedRow.class);
+
+            try (Stream<SimulatedRow> stream = movies.parallelScan(query(null, null),
+                    Arrays.asList("{Rank}>=50", "UNSUPPORTED()"))) {
+                stream.count();
+                fail("UncheckedAirtableException expected");
+            } catch (UncheckedAirtableException e) {
+                assertTrue(e.getCause().getMessage(), e.getCause().getMessage().contains("INVALID_FILTER_BY_FORMULA"));
+            }
+        }
+    }
+
+    private static Map<String, Object> fields(int i) {
+        final Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("Name", "Movie " + i);
+        if (i % 10 != 0) {
+            fields.put("Rank", i);
+        }
+        return fields;
+    }
+
+    private static Query query(final String formula, final Integer maxRecords) {
+        return new Query() {
+            @Override
+            public Integer getMaxRecords() {
+                return maxRecords;
+            }
+
+            @Override
+            public String getView() {
+                return null;
+            }
+
+            @Override
+            public List<Sort> getSort() {
+                return null;
+            }
+
+            @Override
+            public String filterByFormula() {
+                return formula;
+            }
+
+            @Override
+            public String[] getFields() {
+                return null;
+            }
+
+            @Override
+            public Integer getPageSize() {
+                return null;
+            }
+
+            @Override
+            public String getOffset() {
+                return null;
+            }
+        };
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import com.sybit.airtable.exception.AirtableException;
+import com.sybit.airtable.exception.RetryExhaustedException;
+import com.sybit.airtable.mock.AirtableSimulator;
+import com.sybit.airtable.movies.Movie;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.util.Collections;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ *
+ */
+public class TableRetryTest {
+
+    private AirtableSimulator simulator;
+
+    private Airtable airtable;
+
+    private Table<Movie> movies;
+
+    private String id;
+
+    @Before
+    public void before() throws Exception {
+        simulator = new AirtableSimulator()
+                .table("appSimulated", "Movies", 5, i -> Collections.singletonMap("Name", "Movie " + i))
+                .requestsPerSecond(0)
+                .start();
+        airtable = new Airtable().configure(configuration(simulator.getEndpointUrl(), new RetryPolicy(5, 60000, 0.2)));
+        movies = airtable.base("appSimulated").table("Movies", Movie.class);
+        id = movies.select().get(0).getId();
+    }
+
+    @After
+    public void after() {
+        airtable.close();
+        simulator.close();
+    }
+
+    @Test
+    public void retriesReadsOnServerErrors() throws Exception {
+        final long requests = simulator.getRequests();
+        simulator.fail(2, 503);
+
+        assertEquals(id, movies.find(id).getId());
+        assertEquals(3, simulator.getRequests() - requests);
+
+        simulator.fail(1, 502);
+        assertEquals(5, movies.select().size());
+    }
+
+    @Test
+    public void retriesAsyncReadsOnServerErrors() throws Exception {
+        simulator.fail(2, 504);
+
+        assertEquals(id, movies.findAsync(id).get().getId());
+    }
+
+    @Test
+    public void retriesDeletesOnServerErrors() throws Exception {
+        simulator.fail(1, 503);
+
+        assertTrue(movies.destroy(id));
+        assertEquals(4, simulator.size("appSimulated", "Movies"));
+    }
+
+    @Test
+    public void doesNotRetryWrites() throws Exception {
+        final Movie movie = new Movie();
+        movie.setName("New Movie");
+        final long requests = simulator.getRequests();
+        simulator.fail(1, 503);
+
+        try {
+            movies.create(movie);
+            fail("AirtableException expected");
+        } catch (AirtableException e) {
+            assertFalse(e instanceof RetryExhaustedException);
+        }
+        assertEquals(1, simulator.getRequests() - requests);
+        assertEquals(5, simulator.size("appSimulated", "Movies"));
+    }
+
+    @Test
+    public void doesNotRetryIfDisabled() throws Exception {
+        airtable.getConfig().setRetryPolicy(new RetryPolicy(5, 60000, 0.2, false));
+        final long requests = simulator.getRequests();
+        simulator.fail(1, 503);
+
+        try {
+            movies.find(id);
+            fail("AirtableException expected");
+        } catch (AirtableException e) {
+            assertFalse(e instanceof RetryExhaustedException);
+        }
+        assertEquals(1, simulator.getRequests() - requests);
+    }
+
+    @Test
+    public void failsAfterMaximumAttempts() throws Exception {
+        simulator.fail(10, 503);
+
+        try {
+            movies.find(id);
+            fail("RetryExhaustedException expected");
+        } catch (RetryExhaustedException e) {
+            assertEquals(5, e.getAttempts());
+        }
+
+        simulator.fail(10, 503);
+        try {
+            movies.findAsync(id).get();
+            fail("RetryExhaustedException expected");
+        } catch (ExecutionException e) {
+            assertEquals(5, ((RetryExhaustedException) e.getCause()).getAttempts());
+        }
+    }
+
+    @Test
+    public void retriesNetworkErrors() throws Exception {
+        final int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        final Airtable unavailable = new Airtable().configure(
+                configuration("http://localhost:" + port + "/v0", new RetryPolicy(3, 60000, 0.2)));
+
+        try {
+            unavailable.base("appSimulated").table("Movies", Movie.class).find(id);
+            fail("RetryExhaustedException expected");
+        } catch (RetryExhaustedException e) {
+            assertEquals(3, e.getAttempts());
+            assertTrue(e.getCause() instanceof ConnectException);
+        } finally {
+            unavailable.close();
+        }
+    }
+
+    private static Configuration configuration(String endpointUrl, RetryPolicy policy) {
+        final Configuration config = new Configuration("key", endpointUrl, null);
+        config.setRequestsPerSecond(1000);
+        config.setRetryPolicy(policy);
+        return config;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable;
+
+import com.sybit.airtable.mock.AirtableSimulator;
+import com.sybit.airtable.mock.SimulatedRow;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ */
+public class TableSyncTest {
+
+    @Test
+    public void syncsChangedRecordsOnly() throws Exception {
+        try (AirtableSimulator simulator = new AirtableSimulator()
+                .table("appSimulated", "Movies", 250, i -> Collections.singletonMap("Name", "Movie " + i))
+                .requestsPerSecond(0)
+                .start();
+             Airtable airtable = simulator.newAirtable()) {
+            final Table<SimulatedRow> movies = airtable.base("appSimulated").table("Movies", SimulatedRow.class);
+
+            final MapSink sink = new MapSink();
+            final TableSync<SimulatedRow> sync = new TableSync<>(movies, sink);
+            sync.setOverlap(0, TimeUnit.MILLISECONDS);
+
+            assertEquals(250, sync.sync());
+            assertEquals(250, sink.records.size());
+            assertNotNull(sink.getHighWaterMark());
+
+            TimeUnit.MILLISECONDS.sleep(5);
+            final List<SimulatedRow> films = new ArrayList<>(sink.records.values());
+            final SimulatedRow changed = films.get(0);
+            final String changedId = changed.getId();
+            changed.setName("Changed");
+            movies.update(changed);
+            final SimulatedRow created = new SimulatedRow();
+            created.setName("Created");
+            final String createdId = movies.create(created).getId();
+
+            final long requests = simulator.getRequests();
+            assertEquals(2, sync.sync());
+            assertEquals(1, simulator.getRequests() - requests);
+            assertEquals("Changed", sink.records.get(changedId).getName());
+            assertTrue(sink.records.containsKey(createdId));
+            assertEquals(251, sink.records.size());
+
+            TimeUnit.MILLISECONDS.sleep(5);
+            assertEquals(0, sync.sync());
+        }
+    }
+
+    @Test
+    public void detectsDeletedRecords() throws Exception {
+        try (AirtableSimulator simulator = new AirtableSimulator()
+                .table("appSimulated", "Movies", 150, i -> Collections.singletonMap("Name", "Movie " + i))
+                .requestsPerSecond(0)
+                .start();
+             Airtable airtable = simulator.newAirtable()) {
+            final Table<SimulatedRow> movies = airtable.base("appSimulated").table("Movies", SimulatedRow.class);
+
+            final MapSink sink = new MapSink();
+            sink.records.put("recStale00000000", new SimulatedRow());
+            final TableSync<SimulatedRow> sync = new TableSync<>(movies, sink);
+            sync.setOverlap(0, TimeUnit.MILLISECONDS);
+            sync.setDeletionScanInterval(0, TimeUnit.MILLISECONDS);
+
+            // the full load removes records not found
+            assertEquals(150, sync.sync());
+            assertFalse(sink.records.containsKey("recStale00000000"));
+
+            final String deleted = sink.records.keySet().iterator().next();
+            movies.destroy(deleted);
+
+            final long requests = simulator.getRequests();
+            TimeUnit.MILLISECONDS.sleep(5);
+            assertEquals(0, sync.sync());
+            // one request of changes and two pages of ids
+            assertEquals(1 + 2, simulator.getRequests() - requests);
+            assertNull(sink.records.get(deleted));
+            assertEquals(149, sink.records.size());
+
+            assertEquals(0, sync.detectDeletions());
+        }
+    }
+
+    private static class MapSink implements SyncSink<SimulatedRow> {
+
+        private final Map<String, SimulatedRow> records = new ConcurrentHashMap<>();
+
+        private Date mark;
+
+        @Override
+        public void upsert(String id, SimulatedRow record) {
+            records.put(id, record);
+        }
+
+        @Override
+        public void delete(String id) {
+            records.remove(id);
+        }
+
+        @Override
+        public Collection<String> ids() {
+            return records.keySet();
+        }
+
+        @Override
+        public Date getHighWaterMark() {
+            return mark;
+        }
+
+        @Override
+        public void setHighWaterMark(Date mark) {
+            this.mark = mark;
+        }
+    }
+}
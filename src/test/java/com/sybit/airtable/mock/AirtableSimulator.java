@@ -0,0 +1,709 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable.mock;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.sybit.airtable.Airtable;
+import com.sybit.airtable.Configuration;
+import com.sybit.airtable.exception.AirtableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+
+/**
+ * In-process fake of the REST API of Airtable.
+ *
+ * The simulator holds synthetic tables in memory and serves them like
+ * Airtable: pages of up to 100 records with real offsets, batch writes of up
+ * to 10 records and a limit of requests per second and base, which is answered
+ * by status 429. It is used to test and benchmark throughput and latency of the
+ * client offline at realistic scale.
+ *
+ * Supported are the query parameters <code>fields[]</code>, <code>maxRecords</code>,
+ * <code>pageSize</code> and <code>offset</code>. <code>view</code> and
+ * <code>sort</code> are ignored. Of <code>filterByFormula</code> the
+ * subset of <code>Formula</code> is supported, other formulas are answered
+ * by status 422.
+ *
+ * <pre>
+ * AirtableSimulator simulator = new AirtableSimulator()
+ *         .table("appSimulated", "Movies", 100000, i -&gt; Collections.singletonMap("Name", "Movie " + i))
+ *         .start();
+ * Airtable airtable = simulator.newAirtable();
+ * </pre>
+ *
+ * @since 0.3
+ */
+public class AirtableSimulator implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AirtableSimulator.class);
+
+    private static final String PATH = "/v0";
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_BATCH_SIZE = 10;
+
+    private static final String ID_CHARS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+
+    private final Gson gson = new Gson();
+
+    private final Map<String, ConcurrentNavigableMap<String, Map<String, Object>>> tables = new ConcurrentHashMap<>();
+
+    private final Map<String, BaseLimit> limits = new ConcurrentHashMap<>();
+
+    private final Map<String, Long> modifiedTimes = new ConcurrentHashMap<>();
+
+    private final Random random = new Random(42);
+
+    private final AtomicLong requests = new AtomicLong();
+
+    private final AtomicLong rateLimited = new AtomicLong();
+
+    private int requestsPerSecond = 5;
+
+    private long penalty = TimeUnit.SECONDS.toMillis(30);
+
+    private long latency;
+
+    private boolean retryAfter;
+
+    private final AtomicInteger failures = new AtomicInteger();
+
+    private volatile int failureStatus;
+
+    private HttpServer server;
+
+    private ExecutorService executor;
+
+    /**
+     * Add table with synthetic records.
+     *
+     * @param base id of base.
+     * @param table name of table.
+     * @param rows number of records.
+     * @param fields fields of the record of given row index.
+     * @return this simulator.
+     */
+    public AirtableSimulator table(String base, String table, int rows, IntFunction<Map<String, Object>> fields) {
+        final ConcurrentNavigableMap<String, Map<String, Object>> records = records(base, table);
+        for (int i = 0; i < rows; i++) {
+            final Map<String, Object> record = newRecord(fields.apply(i));
+            records.put((String) record.get("id"), record);
+        }
+        return this;
+    }
+
+    /**
+     * Set limit of requests per second and base. Default is 5 like Airtable.
+     *
+     * @param requestsPerSecond requests per second, 0 to disable the limit.
+     * @return this simulator.
+     */
+    public AirtableSimulator requestsPerSecond(int requestsPerSecond) {
+        this.requestsPerSecond = requestsPerSecond;
+        return this;
+    }
+
+    /**
+     * Set time a base is blocked after the limit was exceeded. Default is 30 seconds like Airtable.
+     *
+     * @param penalty time in milliseconds.
+     * @return this simulator.
+     */
+    public AirtableSimulator penalty(long penalty) {
+        this.penalty = penalty;
+        return this;
+    }
+
+    /**
+     * Send header <code>Retry-After</code> with the remaining penalty on rate
+     * limited responses. Airtable does not send it.
+     *
+     * @param retryAfter true to send the header.
+     * @return this simulator.
+     */
+    public AirtableSimulator retryAfter(boolean retryAfter) {
+        this.retryAfter = retryAfter;
+        return this;
+    }
+
+    /**
+     * Answer the next requests by an error, e.g. 503 for an unavailable service.
+     *
+     * @param count number of requests to fail.
+     * @param status HTTP status code of the failed requests.
+     * @return this simulator.
+     */
+    public AirtableSimulator fail(int count, int status) {
+        this.failureStatus = status;
+        this.failures.set(count);
+        return this;
+    }
+
+    /**
+     * Set latency added to each response.
+     *
+     * @param latency time in milliseconds.
+     * @return this simulator.
+     */
+    public AirtableSimulator latency(long latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    /**
+     * Start the server on a free port of <code>localhost</code>.
+     *
+     * @return this simulator.
+     * @throws IOException if the server could not be started.
+     */
+    public AirtableSimulator start() throws IOException {
+        // avoid delayed ACKs of responses written in two parts, read once by the JDK
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        executor = Executors.newCachedThreadPool(runnable -> {
+            final Thread thread = new Thread(runnable, "airtable-simulator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext(PATH, this::handle);
+        server.start();
+        return this;
+    }
+
+    /**
+     * @return endpoint URL to configure <code>Airtable</code>.
+     */
+    public String getEndpointUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + PATH;
+    }
+
+    /**
+     * Create configuration of a client of this simulator. The rate limit of
+     * the client is high enough to leave limiting to the simulator.
+     *
+     * @return the configuration.
+     */
+    public Configuration newConfiguration() {
+        final Configuration config = new Configuration("key", getEndpointUrl(), null);
+        config.setRequestsPerSecond(1000);
+        return config;
+    }
+
+    /**
+     * Create client of this simulator, to be closed by the caller.
+     *
+     * @return the client.
+     * @throws AirtableException if the client could not be configured.
+     */
+    public Airtable newAirtable() throws AirtableException {
+        return newAirtable(config -> {
+        });
+    }
+
+    /**
+     * Create client of this simulator with customized configuration, to be
+     * closed by the caller.
+     *
+     * @param customizer changes of the configuration of <code>newConfiguration()</code>.
+     * @return the client.
+     * @throws AirtableException if the client could not be configured.
+     */
+    public Airtable newAirtable(Consumer<Configuration> customizer) throws AirtableException {
+        final Configuration config = newConfiguration();
+        customizer.accept(config);
+        return new Airtable().configure(config);
+    }
+
+    /**
+     * @param base id of base.
+     * @param table name of table.
+     * @return number of records in table.
+     */
+    public int size(String base, String table) {
+        return records(base, table).size();
+    }
+
+    /**
+     * @return number of requests received.
+     */
+    public long getRequests() {
+        return requests.get();
+    }
+
+    /**
+     * @return number of requests answered by status 429.
+     */
+    public long getRateLimited() {
+        return rateLimited.get();
+    }
+
+    /**
+     * Stop the server.
+     */
+    @Override
+    public void close() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+        }
+    }
+
+    private ConcurrentNavigableMap<String, Map<String, Object>> records(String base, String table) {
+        return tables.computeIfAbsent(base + "/" + table, key -> new ConcurrentSkipListMap<>());
+    }
+
+    private Map<String, Object> newRecord(Map<String, Object> fields) {
+        final Date now = new Date();
+        final Map<String, Object> record = new LinkedHashMap<>();
+        record.put("id", newId());
+        record.put("fields", new LinkedHashMap<>(fields));
+        record.put("createdTime", formatDate(now));
+        modifiedTimes.put((String) record.get("id"), now.getTime());
+        return record;
+    }
+
+    private synchronized String newId() {
+        final StringBuilder id = new StringBuilder("rec");
+        for (int i = 0; i < 14; i++) {
+            id.append(ID_CHARS.charAt(random.nextInt(ID_CHARS.length())));
+        }
+        return id.toString();
+    }
+
+    private static String formatDate(Date date) {
+        final SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
+        format.setTimeZone(TimeZone.getTimeZone("UTC"));
+        return format.format(date);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        try {
+            if (latency > 0) {
+                TimeUnit.MILLISECONDS.sleep(latency);
+            }
+
+            final String[] path = exchange.getRequestURI().getPath().substring(PATH.length() + 1).split("/");
+            if (path.length < 2) {
+                error(exchange, 404, "NOT_FOUND", "Could not find what you are looking for");
+                return;
+            }
+            if (!exchange.getRequestHeaders().containsKey("Authorization")) {
+                error(exchange, 401, "AUTHENTICATION_REQUIRED", "Authentication required");
+                return;
+            }
+            if (failures.getAndUpdate(count -> Math.max(0, count - 1)) > 0) {
+                error(exchange, failureStatus, "SERVICE_UNAVAILABLE", "Simulated failure");
+                return;
+            }
+
+            final BaseLimit limit = limit(path[0]);
+            if (!limit.tryAcquire()) {
+                rateLimited.incrementAndGet();
+                if (retryAfter) {
+                    exchange.getResponseHeaders().set("Retry-After", String.valueOf(limit.remainingSeconds()));
+                }
+                error(exchange, 429, "RATE_LIMIT_REACHED", "Rate limit exceeded. Please try again later");
+                return;
+            }
+
+            final ConcurrentNavigableMap<String, Map<String, Object>> records = records(path[0], path[1]);
+            final String id = (path.length > 2) ? path[2] : null;
+            final Map<String, List<String>> query = parseQuery(exchange.getRequestURI().getRawQuery());
+
+            switch (exchange.getRequestMethod()) {
+                case "GET":
+                    if (id == null) {
+                        select(exchange, records, query);
+                    } else {
+                        find(exchange, records, id);
+                    }
+                    break;
+                case "POST":
+                    create(exchange, records);
+                    break;
+                case "PATCH":
+                    update(exchange, records, id);
+                    break;
+                case "DELETE":
+                    destroy(exchange, records, id, query);
+                    break;
+                default:
+                    error(exchange, 405, "METHOD_NOT_ALLOWED", exchange.getRequestMethod());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            LOG.error(e.getMessage(), e);
+            error(exchange, 500, "SERVER_ERROR", String.valueOf(e.getMessage()));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void select(HttpExchange exchange, ConcurrentNavigableMap<String, Map<String, Object>> records,
+                        Map<String, List<String>> query) throws IOException {
+        Predicate<Map<String, Object>> filter = record -> true;
+        if (query.containsKey("filterByFormula")) {
+            filter = formula(query.get("filterByFormula").get(0));
+            if (filter == null) {
+                error(exchange, 422, "INVALID_FILTER_BY_FORMULA", "Formula is not supported by the simulator");
+                return;
+            }
+        }
+
+        final int pageSize = Math.min(intParam(query, "pageSize", MAX_PAGE_SIZE), MAX_PAGE_SIZE);
+        final int maxRecords = intParam(query, "maxRecords", Integer.MAX_VALUE);
+        final List<String> fields = query.get("fields[]");
+
+        // offset: number of records returned before and id of last record
+        int returned = 0;
+        Map<String, Map<String, Object>> remaining = records;
+        if (query.containsKey("offset")) {
+            final String[] offset = query.get("offset").get(0).split("/");
+            if (offset.length != 2 || !offset[0].startsWith("itr")) {
+                error(exchange, 422, "LIST_RECORDS_ITERATOR_NOT_AVAILABLE", "Invalid offset");
+                return;
+            }
+            returned = Integer.parseInt(offset[0].substring(3));
+            remaining = records.tailMap(offset[1], false);
+        }
+
+        final List<Map<String, Object>> page = new ArrayList<>();
+        String last = null;
+        boolean more = false;
+        for (Map<String, Object> record : remaining.values()) {
+            if (!filter.test(record)) {
+                continue;
+            }
+            if (page.size() == pageSize || returned + page.size() == maxRecords) {
+                more = true;
+                break;
+            }
+            page.add(project(record, fields));
+            last = (String) record.get("id");
+        }
+
+        final Map<String, Object> body = new LinkedHashMap<>();
+        body.put("records", page);
+        returned += page.size();
+        if (more && returned < maxRecords) {
+            body.put("offset", "itr" + returned + "/" + last);
+        }
+        respond(exchange, 200, body);
+    }
+
+    private void find(HttpExchange exchange, Map<String, Map<String, Object>> records, String id) throws IOException {
+        final Map<String, Object> record = records.get(id);
+        if (record == null) {
+            error(exchange, 404, "NOT_FOUND", "Could not find record " + id);
+        } else {
+            respond(exchange, 200, record);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void create(HttpExchange exchange, Map<String, Map<String, Object>> records) throws IOException {
+        final Map<String, Object> body = readBody(exchange);
+        if (body == null) {
+            return;
+        }
+
+        if (body.containsKey("records")) {
+            final List<Map<String, Object>> items = (List<Map<String, Object>>) body.get("records");
+            if (items.size() > MAX_BATCH_SIZE) {
+                error(exchange, 422, "INVALID_RECORDS", "Too many records, maximum is " + MAX_BATCH_SIZE);
+                return;
+            }
+            final List<Map<String, Object>> created = new ArrayList<>();
+            for (Map<String, Object> item : items) {
+                created.add(insert(records, (Map<String, Object>) item.get("fields")));
+            }
+            respond(exchange, 200, Collections.singletonMap("records", created));
+        } else {
+            respond(exchange, 200, insert(records, (Map<String, Object>) body.get("fields")));
+        }
+    }
+
+    private Map<String, Object> insert(Map<String, Map<String, Object>> records, Map<String, Object> fields) {
+        final Map<String, Object> record = newRecord((fields == null) ? Collections.<String, Object>emptyMap() : fields);
+        records.put((String) record.get("id"), record);
+        return record;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void update(HttpExchange exchange, Map<String, Map<String, Object>> records, String id) throws IOException {
+        final Map<String, Object> body = readBody(exchange);
+        if (body == null) {
+            return;
+        }
+
+        final List<Map<String, Object>> items;
+        if (id != null) {
+            final Map<String, Object> item = new LinkedHashMap<>(body);
+            item.put("id", id);
+            items = Collections.singletonList(item);
+        } else {
+            items = (List<Map<String, Object>>) body.get("records");
+            if (items == null || items.size() > MAX_BATCH_SIZE) {
+                error(exchange, 422, "INVALID_RECORDS", "Between 1 and " + MAX_BATCH_SIZE + " records expected");
+                return;
+            }
+        }
+
+        for (Map<String, Object> item : items) {
+            if (!records.containsKey((String) item.get("id"))) {
+                error(exchange, 404, "NOT_FOUND", "Could not find record " + item.get("id"));
+                return;
+            }
+        }
+
+        final List<Map<String, Object>> updated = new ArrayList<>();
+        for (Map<String, Object> item : items) {
+            final Map<String, Object> record = records.get((String) item.get("id"));
+            final Map<String, Object> fields = (Map<String, Object>) item.get("fields");
+            if (fields != null) {
+                synchronized (record) {
+                    ((Map<String, Object>) record.get("fields")).putAll(fields);
+                }
+                modifiedTimes.put((String) record.get("id"), System.currentTimeMillis());
+            }
+            updated.add(record);
+        }
+
+        respond(exchange, 200, (id != null) ? updated.get(0) : Collections.singletonMap("records", updated));
+    }
+
+    private void destroy(HttpExchange exchange, Map<String, Map<String, Object>> records, String id,
+                         Map<String, List<String>> query) throws IOException {
+        final List<String> ids = (id != null) ? Collections.singletonList(id) : query.get("records[]");
+        if (ids == null || ids.size() > MAX_BATCH_SIZE) {
+            error(exchange, 422, "INVALID_RECORDS", "Between 1 and " + MAX_BATCH_SIZE + " records expected");
+            return;
+        }
+        for (String recordId : ids) {
+            if (!records.containsKey(recordId)) {
+                error(exchange, 404, "NOT_FOUND", "Could not find record " + recordId);
+                return;
+            }
+        }
+
+        final List<Map<String, Object>> deleted = new ArrayList<>();
+        for (String recordId : ids) {
+            records.remove(recordId);
+            modifiedTimes.remove(recordId);
+            final Map<String, Object> delete = new LinkedHashMap<>();
+            delete.put("id", recordId);
+            delete.put("deleted", true);
+            deleted.add(delete);
+        }
+
+        respond(exchange, 200, (id != null) ? deleted.get(0) : Collections.singletonMap("records", deleted));
+    }
+
+    /**
+     * Create filter of given formula.
+     *
+     * @param formula the formula.
+     * @return the filter or <code>null</code> if the formula is not supported.
+     */
+    private Predicate<Map<String, Object>> formula(String formula) {
+        try {
+            final Function<Map<String, Object>, Object> compiled = Formula.compile(formula,
+                    record -> modifiedTimes.get((String) record.get("id")));
+            return record -> Formula.isTrue(compiled.apply(record));
+        } catch (IllegalArgumentException e) {
+            LOG.debug(e.getMessage());
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> project(Map<String, Object> record, List<String> fields) {
+        if (fields == null) {
+            return record;
+        }
+        final Map<String, Object> values = (Map<String, Object>) record.get("fields");
+        final Map<String, Object> projected = new LinkedHashMap<>();
+        for (String field : fields) {
+            if (values.containsKey(field)) {
+                projected.put(field, values.get(field));
+            }
+        }
+        final Map<String, Object> result = new LinkedHashMap<>(record);
+        result.put("fields", projected);
+        return result;
+    }
+
+    private BaseLimit limit(String base) {
+        return limits.computeIfAbsent(base, key -> new BaseLimit());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> readBody(HttpExchange exchange) throws IOException {
+        final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        try (InputStream in = exchange.getRequestBody()) {
+            final byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) >= 0) {
+                content.write(buffer, 0, read);
+            }
+        }
+        try {
+            final JsonElement body = new JsonParser().parse(new String(content.toByteArray(), StandardCharsets.UTF_8));
+            if (body.isJsonObject()) {
+                return (Map<String, Object>) toValue(body);
+            }
+        } catch (JsonParseException e) {
+            LOG.debug(e.getMessage());
+        }
+        error(exchange, 422, "INVALID_REQUEST_BODY", "Could not parse request body");
+        return null;
+    }
+
+    /**
+     * Convert JSON to maps, lists and values. Numbers are read as
+     * <code>BigDecimal</code>, so they are written again exactly, unlike the
+     * doubles of Gson.
+     *
+     * @param element the JSON.
+     * @return the value.
+     */
+    private static Object toValue(JsonElement element) {
+        if (element.isJsonObject()) {
+            final Map<String, Object> map = new LinkedHashMap<>();
+            for (Map.Entry<String, JsonElement> entry : element.getAsJsonObject().entrySet()) {
+                map.put(entry.getKey(), toValue(entry.getValue()));
+            }
+            return map;
+        } else if (element.isJsonArray()) {
+            final List<Object> list = new ArrayList<>();
+            for (JsonElement item : element.getAsJsonArray()) {
+                list.add(toValue(item));
+            }
+            return list;
+        } else if (element.isJsonNull()) {
+            return null;
+        }
+        final JsonPrimitive primitive = element.getAsJsonPrimitive();
+        if (primitive.isNumber()) {
+            return primitive.getAsBigDecimal();
+        }
+        return primitive.isBoolean() ? (Object) primitive.getAsBoolean() : primitive.getAsString();
+    }
+
+    private static Map<String, List<String>> parseQuery(String rawQuery) throws UnsupportedEncodingException {
+        final Map<String, List<String>> query = new LinkedHashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (String param : rawQuery.split("&")) {
+            final int separator = param.indexOf('=');
+            final String name = URLDecoder.decode((separator < 0) ? param : param.substring(0, separator), "UTF-8");
+            final String value = (separator < 0) ? "" : URLDecoder.decode(param.substring(separator + 1), "UTF-8");
+            query.computeIfAbsent(name, key -> new ArrayList<>()).add(value);
+        }
+        return query;
+    }
+
+    private static int intParam(Map<String, List<String>> query, String name, int defaultValue) {
+        final List<String> values = query.get(name);
+        return (values == null) ? defaultValue : Integer.parseInt(values.get(0));
+    }
+
+    private void error(HttpExchange exchange, int status, String type, String message) throws IOException {
+        final Map<String, Object> error = new LinkedHashMap<>();
+        error.put("type", type);
+        error.put("message", message);
+        respond(exchange, status, Collections.singletonMap("error", error));
+    }
+
+    private void respond(HttpExchange exchange, int status, Object body) throws IOException {
+        final byte[] content = gson.toJson(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, content.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(content);
+        }
+    }
+
+    /**
+     * Requests of a base within the last second.
+     */
+    private class BaseLimit {
+
+        private final Deque<Long> accepted = new ArrayDeque<>();
+
+        private long blockedUntil = System.nanoTime();
+
+        synchronized boolean tryAcquire() {
+            if (requestsPerSecond <= 0) {
+                return true;
+            }
+
+            final long now = System.nanoTime();
+            if (now - blockedUntil < 0) {
+                return false;
+            }
+            while (!accepted.isEmpty() && now - accepted.peekFirst() >= TimeUnit.SECONDS.toNanos(1)) {
+                accepted.pollFirst();
+            }
+            if (accepted.size() >= requestsPerSecond) {
+                blockedUntil = now + TimeUnit.MILLISECONDS.toNanos(penalty);
+                return false;
+            }
+            accepted.addLast(now);
+            return true;
+        }
+
+        synchronized long remainingSeconds() {
+            final long remaining = blockedUntil - System.nanoTime();
+            return (remaining > 0) ? (remaining + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1) : 0;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable.mock;
+
+import com.sybit.airtable.Airtable;
+import com.sybit.airtable.Query;
+import com.sybit.airtable.Sort;
+import com.sybit.airtable.Table;
+import com.sybit.airtable.movies.Movie;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ */
+public class AirtableSimulatorTest {
+
+    private static final String BASE = "appSimulated";
+
+    private AirtableSimulator simulator;
+
+    private Airtable airtable;
+
+    private Table<Movie> movies;
+
+    @Before
+    public void setUp() throws Exception {
+        simulator = new AirtableSimulator()
+                .table(BASE, "Movies", 1000, i -> Collections.singletonMap("Name", "Movie " + i))
+                .requestsPerSecond(0)
+                .start();
+
+        airtable = simulator.newAirtable();
+        movies = airtable.base(BASE).table("Movies", Movie.class);
+    }
+
+    @After
+    public void tearDown() {
+        airtable.close();
+        simulator.close();
+    }
+
+    @Test
+    public void paginatesWithOffsets() {
+        final List<String> ids;
+        try (Stream<Movie> stream = movies.stream(query(100))) {
+            ids = stream.map(Movie::getId).collect(Collectors.toList());
+        }
+
+        assertEquals(1000, ids.size());
+        assertEquals(1000, ids.stream().distinct().count());
+        assertEquals(10, simulator.getRequests());
+    }
+
+    @Test
+    public void writesBatches() throws Exception {
+        final List<Movie> items = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            final Movie movie = new Movie();
+            movie.setName("New Movie " + i);
+            items.add(movie);
+        }
+
+        final List<Movie> created = movies.createAll(items);
+        assertEquals(25, created.size());
+        assertEquals(1025, simulator.size(BASE, "Movies"));
+        assertEquals(3, simulator.getRequests());
+
+        final List<String> ids = created.stream().map(Movie::getId).collect(Collectors.toList());
+        assertTrue(movies.destroyAll(ids).stream().allMatch(Boolean::booleanValue));
+        assertEquals(1000, simulator.size(BASE, "Movies"));
+    }
+
+    @Test
+    public void limitsRequestsPerBase() throws Exception {
+        simulator.requestsPerSecond(5).penalty(100);
+
+        final URL url = new URL(simulator.getEndpointUrl() + "/" + BASE + "/Movies?pageSize=1");
+        final List<Integer> codes = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            final HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+            connection.setRequestProperty("Authorization", "Bearer key");
+            codes.add(connection.getResponseCode());
+            connection.disconnect();
+        }
+
+        assertEquals(Collections.nCopies(5, 200), codes.subList(0, 5));
+        assertEquals(429, (int) codes.get(5));
+        assertEquals(1, simulator.getRateLimited());
+    }
+
+    private static Query query(final Integer pageSize) {
+        return new Query() {
+            @Override
+            public Integer getMaxRecords() {
+                return null;
+            }
+
+            @Override
+            public String getView() {
+                return null;
+            }
+
+            @Override
+            public List<Sort> getSort() {
+                return null;
+            }
+
+            @Override
+            public String filterByFormula() {
+                return null;
+            }
+
+            @Override
+            public String[] getFields() {
+                return null;
+            }
+
+            @Override
+            public Integer getPageSize() {
+                return pageSize;
+            }
+
+            @Override
+            public String getOffset() {
+                return null;
+            }
+        };
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable.mock;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TimeZone;
+import java.util.function.Function;
+
+/**
+ * Subset of the formula language of Airtable evaluated by the simulator.
+ *
+ * Supported are string and number literals, field references
+ * <code>{Name}</code>, the operators <code>= != &lt; &lt;= &gt; &gt;=</code> and
+ * the functions <code>AND</code>, <code>OR</code>, <code>NOT</code>,
+ * <code>RECORD_ID</code>, <code>FIND</code>, <code>MID</code>,
+ * <code>BLANK</code>, <code>DATETIME_PARSE</code>, <code>IS_AFTER</code>,
+ * <code>IS_BEFORE</code> and <code>LAST_MODIFIED_TIME</code>. Dates are
+ * compared as milliseconds since epoch.
+ *
+ * @since 0.3
+ */
+final class Formula {
+
+    private final String text;
+
+    private final Function<Map<String, Object>, Object> lastModifiedTime;
+
+    private int position;
+
+    private Formula(String text, Function<Map<String, Object>, Object> lastModifiedTime) {
+        this.text = text;
+        this.lastModifiedTime = lastModifiedTime;
+    }
+
+    /**
+     * Compile formula to a filter of records.
+     *
+     * @param text the formula.
+     * @param lastModifiedTime time of last modification of a record in milliseconds.
+     * @return the filter, evaluating a record to the value of the formula.
+     * @throws IllegalArgumentException if the formula is not supported.
+     */
+    static Function<Map<String, Object>, Object> compile(String text,
+                                                         Function<Map<String, Object>, Object> lastModifiedTime) {
+        final Formula formula = new Formula(text, lastModifiedTime);
+        final Function<Map<String, Object>, Object> expression = formula.expression();
+        formula.skipSpaces();
+        if (formula.position != text.length()) {
+            throw formula.unsupported();
+        }
+        return expression;
+    }
+
+    /**
+     * @param value value of a formula.
+     * @return whether the value is true in a condition.
+     */
+    static boolean isTrue(Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        } else if (value instanceof Number) {
+            return ((Number) value).doubleValue() != 0;
+        }
+        return value != null && !value.toString().isEmpty();
+    }
+
+    private Function<Map<String, Object>, Object> expression() {
+        final Function<Map<String, Object>, Object> left = operand();
+        skipSpaces();
+        for (String operator : new String[]{"!=", "<=", ">=", "=", "<", ">"}) {
+            if (text.startsWith(operator, position)) {
+                position += operator.length();
+                final Function<Map<String, Object>, Object> right = operand();
+                return record -> compare(operator, left.apply(record), right.apply(record));
+            }
+        }
+        return left;
+    }
+
+    private Function<Map<String, Object>, Object> operand() {
+        skipSpaces();
+        if (position >= text.length()) {
+            throw unsupported();
+        }
+
+        final char c = text.charAt(position);
+        if (c == '(') {
+            position++;
+            final Function<Map<String, Object>, Object> inner = expression();
+            expect(')');
+            return inner;
+        } else if (c == '\'' || c == '"') {
+            final String value = string(c);
+            return record -> value;
+        } else if (c == '{') {
+            final int end = text.indexOf('}', position);
+            if (end < 0) {
+                throw unsupported();
+            }
+            final String field = text.substring(position + 1, end);
+            position = end + 1;
+            return record -> ((Map<?, ?>) record.get("fields")).get(field);
+        } else if (Character.isDigit(c) || c == '-') {
+            final int start = position++;
+            while (position < text.length() && (Character.isDigit(text.charAt(position)) || text.charAt(position) == '.')) {
+                position++;
+            }
+            final double value = Double.parseDouble(text.substring(start, position));
+            return record -> value;
+        } else if (Character.isLetter(c)) {
+            final int start = position;
+            while (position < text.length() && (Character.isLetterOrDigit(text.charAt(position)) || text.charAt(position) == '_')) {
+                position++;
+            }
+            return function(text.substring(start, position), arguments());
+        }
+        throw unsupported();
+    }
+
+    private List<Function<Map<String, Object>, Object>> arguments() {
+        expect('(');
+        final List<Function<Map<String, Object>, Object>> arguments = new ArrayList<>();
+        skipSpaces();
+        if (position < text.length() && text.charAt(position) == ')') {
+            position++;
+            return arguments;
+        }
+        while (true) {
+            arguments.add(expression());
+            skipSpaces();
+            if (position < text.length() && text.charAt(position) == ',') {
+                position++;
+            } else {
+                expect(')');
+                return arguments;
+            }
+        }
+    }
+
+    private Function<Map<String, Object>, Object> function(String name, List<Function<Map<String, Object>, Object>> args) {
+        switch (name) {
+            case "AND":
+                return record -> args.stream().allMatch(arg -> isTrue(arg.apply(record)));
+            case "OR":
+                return record -> args.stream().anyMatch(arg -> isTrue(arg.apply(record)));
+            case "NOT":
+                checkArguments(args, 1);
+                return record -> !isTrue(args.get(0).apply(record));
+            case "RECORD_ID":
+                checkArguments(args, 0);
+                return record -> record.get("id");
+            case "BLANK":
+                checkArguments(args, 0);
+                return record -> null;
+            case "FIND":
+                checkArguments(args, 2);
+                return record -> {
+                    final Object needle = args.get(0).apply(record);
+                    final Object haystack = args.get(1).apply(record);
+                    return (needle == null || haystack == null) ? 0
+                            : haystack.toString().indexOf(needle.toString()) + 1;
+                };
+            case "MID":
+                checkArguments(args, 3);
+                return record -> {
+                    final String value = Objects.toString(args.get(0).apply(record), "");
+                    final int start = Math.min(value.length(), Math.max(0, toNumber(args.get(1).apply(record)).intValue() - 1));
+                    final int count = toNumber(args.get(2).apply(record)).intValue();
+                    return value.substring(start, Math.min(value.length(), start + count));
+                };
+            case "LAST_MODIFIED_TIME":
+                checkArguments(args, 0);
+                return lastModifiedTime;
+            case "IS_AFTER":
+                checkArguments(args, 2);
+                return record -> compare(">", args.get(0).apply(record), args.get(1).apply(record));
+            case "IS_BEFORE":
+                checkArguments(args, 2);
+                return record -> compare("<", args.get(0).apply(record), args.get(1).apply(record));
+            case "DATETIME_PARSE":
+                checkArguments(args, 1);
+                return record -> toNumber(args.get(0).apply(record));
+            default:
+                throw unsupported();
+        }
+    }
+
+    private void checkArguments(List<?> args, int count) {
+        if (args.size() != count) {
+            throw unsupported();
+        }
+    }
+
+    private static Object compare(String operator, Object left, Object right) {
+        final Double leftNumber = toNumber(left);
+        final Double rightNumber = toNumber(right);
+        if ("=".equals(operator) || "!=".equals(operator)) {
+            final boolean equal = (leftNumber != null && rightNumber != null)
+                    ? leftNumber.equals(rightNumber) : Objects.equals(left, right);
+            return equal == "=".equals(operator);
+        }
+        if (leftNumber == null || rightNumber == null) {
+            return false;
+        }
+        final int result = leftNumber.compareTo(rightNumber);
+        switch (operator) {
+            case "<":
+                return result < 0;
+            case "<=":
+                return result <= 0;
+            case ">":
+                return result > 0;
+            default:
+                return result >= 0;
+        }
+    }
+
+    /**
+     * @param value number, numeric string or ISO date.
+     * @return the number, milliseconds of a date or <code>null</code> if not a number.
+     */
+    private static Double toNumber(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        } else if (value == null) {
+            return null;
+        }
+        try {
+            return Double.parseDouble(value.toString());
+        } catch (NumberFormatException e) {
+            for (String pattern : new String[]{"yyyy-MM-dd'T'HH:mm:ss.SSS'Z'", "yyyy-MM-dd'T'HH:mm:ss'Z'", "yyyy-MM-dd"}) {
+                final SimpleDateFormat format = new SimpleDateFormat(pattern);
+                format.setTimeZone(TimeZone.getTimeZone("UTC"));
+                format.setLenient(false);
+                try {
+                    return (double) format.parse(value.toString()).getTime();
+                } catch (ParseException ignored) {
+                    // try next pattern
+                }
+            }
+            return null;
+        }
+    }
+
+    private String string(char quote) {
+        final StringBuilder value = new StringBuilder();
+        position++;
+        while (position < text.length() && text.charAt(position) != quote) {
+            if (text.charAt(position) == '\\' && position + 1 < text.length()) {
+                position++;
+            }
+            value.append(text.charAt(position++));
+        }
+        expect(quote);
+        return value.toString();
+    }
+
+    private void expect(char c) {
+        skipSpaces();
+        if (position >= text.length() || text.charAt(position) != c) {
+            throw unsupported();
+        }
+        position++;
+    }
+
+    private void skipSpaces() {
+        while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+            position++;
+        }
+    }
+
+    private IllegalArgumentException unsupported() {
+        return new IllegalArgumentException("Unsupported formula at " + position + ": " + text);
+    }
+}
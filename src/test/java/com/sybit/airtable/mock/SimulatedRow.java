@@ -0,0 +1,76 @@
+/*
+ * The MIT License (MIT)
+ * Copyright (c) 2017 Sybit GmbH
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ */
+package com.sybit.airtable.mock;
+
+import com.google.gson.annotations.SerializedName;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Row of a simulated table with the fields <code>Name</code> and <code>Rank</code>.
+ *
+ * @since 0.3
+ */
+public class SimulatedRow {
+
+    private String id;
+
+    @SerializedName("Name")
+    private String name;
+
+    @SerializedName("Rank")
+    private Integer rank;
+
+    private Date createdTime;
+
+    /**
+     * Fields of the row of given index: name <code>Movie i</code> and rank <code>i</code>.
+     *
+     * @param i index of row.
+     * @return the fields.
+     */
+    public static Map<String, Object> fields(int i) {
+        final Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("Name", "Movie " + i);
+        fields.put("Rank", i);
+        return fields;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Integer getRank() {
+        return rank;
+    }
+
+    public void setRank(Integer rank) {
+        this.rank = rank;
+    }
+
+    public Date getCreatedTime() {
+        return createdTime;
+    }
+
+    public void setCreatedTime(Date createdTime) {
+        this.createdTime = createdTime;
+    }
+}